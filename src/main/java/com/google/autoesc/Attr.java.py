@@ -26,136 +26,76 @@ package com.google.autoesc;
  */
 class Attr {
   /**
-   * attrTypeMap[n] describes the value of the given attribute.
+   * The types of known attributes.
    * If an attribute affects (or can mask) the encoding or interpretation of
    * other content, or affects the contents, idempotency, or credentials of a
-   * network message, then the value in this map is contentTypeUnsafe.
-   * This map is derived from HTML5, specifically
+   * network message, then its type is contentTypeUnsafe.
+   * These are derived from HTML5, specifically
    * http://www.w3.org/TR/html5/Overview.html#attributes-1
    * as well as "%URI"-typed attributes from
    * http://www.w3.org/TR/html4/index/attributes.html
+   * <p>
+   * ATTR_NAMES[i] is a lower-case attribute name and ATTR_TYPES[i] is its
+   * type, where i is the attribute's slot in a perfect hash generated
+   * from ATTR_TYPES in Attr.java.py.
+   * Unused slots have the name "".
+   * Both tables have power of two lengths so that slots can be found by
+   * masking instead of division.
    */
-  private static final Trie<ContentType> ATTR_TYPE_MAP;
-  static {
-    Trie.Builder<ContentType> b = Trie.builder();
-    b.put("accept",          ContentType.Plain);
-    b.put("accept-charset",  ContentType.Unsafe);
-    b.put("action",          ContentType.URL);
-    b.put("alt",             ContentType.Plain);
-    b.put("archive",         ContentType.URL);
-    b.put("async",           ContentType.Unsafe);
-    b.put("attributename",   ContentType.Unsafe); // From <svg:set attributeName>
-    b.put("autocomplete",    ContentType.Plain);
-    b.put("autofocus",       ContentType.Plain);
-    b.put("autoplay",        ContentType.Plain);
-    b.put("background",      ContentType.URL);
-    b.put("border",          ContentType.Plain);
-    b.put("checked",         ContentType.Plain);
-    b.put("cite",            ContentType.URL);
-    b.put("challenge",       ContentType.Unsafe);
-    b.put("charset",         ContentType.Unsafe);
-    b.put("class",           ContentType.Plain);
-    b.put("classid",         ContentType.URL);
-    b.put("codebase",        ContentType.URL);
-    b.put("cols",            ContentType.Plain);
-    b.put("colspan",         ContentType.Plain);
-    b.put("content",         ContentType.Unsafe);
-    b.put("contenteditable", ContentType.Plain);
-    b.put("contextmenu",     ContentType.Plain);
-    b.put("controls",        ContentType.Plain);
-    b.put("coords",          ContentType.Plain);
-    b.put("crossorigin",     ContentType.Unsafe);
-    b.put("data",            ContentType.URL);
-    b.put("datetime",        ContentType.Plain);
-    b.put("default",         ContentType.Plain);
-    b.put("defer",           ContentType.Unsafe);
-    b.put("dir",             ContentType.Plain);
-    b.put("dirname",         ContentType.Plain);
-    b.put("disabled",        ContentType.Plain);
-    b.put("draggable",       ContentType.Plain);
-    b.put("dropzone",        ContentType.Plain);
-    b.put("enctype",         ContentType.Unsafe);
-    b.put("for",             ContentType.Plain);
-    b.put("form",            ContentType.Unsafe);
-    b.put("formaction",      ContentType.URL);
-    b.put("formenctype",     ContentType.Unsafe);
-    b.put("formmethod",      ContentType.Unsafe);
-    b.put("formnovalidate",  ContentType.Unsafe);
-    b.put("formtarget",      ContentType.Plain);
-    b.put("headers",         ContentType.Plain);
-    b.put("height",          ContentType.Plain);
-    b.put("hidden",          ContentType.Plain);
-    b.put("high",            ContentType.Plain);
-    b.put("href",            ContentType.URL);
-    b.put("hreflang",        ContentType.Plain);
-    b.put("http-equiv",      ContentType.Unsafe);
-    b.put("icon",            ContentType.URL);
-    b.put("id",              ContentType.Plain);
-    b.put("ismap",           ContentType.Plain);
-    b.put("keytype",         ContentType.Unsafe);
-    b.put("kind",            ContentType.Plain);
-    b.put("label",           ContentType.Plain);
-    b.put("lang",            ContentType.Plain);
-    b.put("language",        ContentType.Unsafe);
-    b.put("list",            ContentType.Plain);
-    b.put("longdesc",        ContentType.URL);
-    b.put("loop",            ContentType.Plain);
-    b.put("low",             ContentType.Plain);
-    b.put("manifest",        ContentType.URL);
-    b.put("max",             ContentType.Plain);
-    b.put("maxlength",       ContentType.Plain);
-    b.put("media",           ContentType.Plain);
-    b.put("mediagroup",      ContentType.Plain);
-    b.put("method",          ContentType.Unsafe);
-    b.put("min",             ContentType.Plain);
-    b.put("multiple",        ContentType.Plain);
-    b.put("name",            ContentType.Plain);
-    b.put("novalidate",      ContentType.Unsafe);
-    // Skip handler names from
-    // http://www.w3.org/TR/html5/Overview.html#event-handlers-on-elements-document-objects-and-window-objects
-    // since we have special handling in attrType.
-    b.put("open",            ContentType.Plain);
-    b.put("optimum",         ContentType.Plain);
-    b.put("pattern",         ContentType.Unsafe);
-    b.put("placeholder",     ContentType.Plain);
-    b.put("poster",          ContentType.URL);
-    b.put("profile",         ContentType.URL);
-    b.put("preload",         ContentType.Plain);
-    b.put("pubdate",         ContentType.Plain);
-    b.put("radiogroup",      ContentType.Plain);
-    b.put("readonly",        ContentType.Plain);
-    b.put("rel",             ContentType.Unsafe);
-    b.put("required",        ContentType.Plain);
-    b.put("reversed",        ContentType.Plain);
-    b.put("rows",            ContentType.Plain);
-    b.put("rowspan",         ContentType.Plain);
-    b.put("sandbox",         ContentType.Unsafe);
-    b.put("spellcheck",      ContentType.Plain);
-    b.put("scope",           ContentType.Plain);
-    b.put("scoped",          ContentType.Plain);
-    b.put("seamless",        ContentType.Plain);
-    b.put("selected",        ContentType.Plain);
-    b.put("shape",           ContentType.Plain);
-    b.put("size",            ContentType.Plain);
-    b.put("sizes",           ContentType.Plain);
-    b.put("span",            ContentType.Plain);
-    b.put("src",             ContentType.URL);
-    b.put("srcdoc",          ContentType.Markup);
-    b.put("srchtml",         ContentType.Unsafe);
-    b.put("srclang",         ContentType.Plain);
-    b.put("start",           ContentType.Plain);
-    b.put("step",            ContentType.Plain);
-    b.put("style",           ContentType.CSS);
-    b.put("tabindex",        ContentType.Plain);
-    b.put("target",          ContentType.Plain);
-    b.put("title",           ContentType.Plain);
-    b.put("type",            ContentType.Unsafe);
-    b.put("usemap",          ContentType.URL);
-    b.put("value",           ContentType.Unsafe);
-    b.put("width",           ContentType.Plain);
-    b.put("wrap",            ContentType.Plain);
-    b.put("xmlns",           ContentType.URL);
-    ATTR_TYPE_MAP = b.build();
+  private static final String[] ATTR_NAMES = {
+/*ATTR_NAMES*/
+  };
+  private static final ContentType[] ATTR_TYPES = {
+/*ATTR_TYPES*/
+  };
+  /** Per-bucket inputs to {@link #attrSlot}. */
+  private static final int[] ATTR_DISPLACEMENTS = {
+/*ATTR_DISPLACEMENTS*/
+  };
+
+  /**
+   * A hash of the lower-case version of s[off:end] that matches lcase_hash in
+   * Attr.java.py.
+   * Only the length and the first, middle, and last chars are hashed, which
+   * is enough to tell the known names apart, so a known name is read in full
+   * only once, when it is compared to its slot.
+   */
+  static int hashIgnoreCase(String s, int off, int end) {
+    int n = end - off;
+    if (n == 0) { return 0; }
+    int h = n;
+    h = h * 31 + CharsUtil.lcase(s.charAt(off));
+    h = h * 31 + CharsUtil.lcase(s.charAt(off + (n >> 1)));
+    h = h * 31 + CharsUtil.lcase(s.charAt(end - 1));
+    return h;
+  }
+
+  /** The slot in ATTR_NAMES of the name with the given hash if known. */
+  private static int attrSlot(int h) {
+    int d = ATTR_DISPLACEMENTS[h & (ATTR_DISPLACEMENTS.length - 1)];
+    int x = (h ^ d) * 0x9e3779b1;
+    x ^= x >>> 16;
+    return x & (ATTR_NAMES.length - 1);
+  }
+
+  /**
+   * Caches the types of custom attribute names, indexed by the low bits of
+   * their hash.
+   * Entries are immutable so threads racing to fill a slot at worst recompute
+   * a type.
+   */
+  private static final CustomAttr[] CUSTOM_ATTR_CACHE = new CustomAttr[256];
+  /** Longer names are not cached. */
+  private static final int MAX_CACHED_NAME_LENGTH = 64;
+
+  private static final class CustomAttr {
+    final String lowerCaseName;
+    final ContentType type;
+
+    CustomAttr(String lowerCaseName, ContentType type) {
+      this.lowerCaseName = lowerCaseName;
+      this.type = type;
+    }
   }
 
   /**
@@ -168,12 +108,22 @@ class Attr {
 
   static ContentType attrType(String s, int offset, int end) {
     int off = offset;
-    if (CharsUtil.startsWithIgnoreCase(s, off, end, "data-")) {
+    boolean isData = CharsUtil.startsWithIgnoreCase(s, off, end, "data-");
+    if (isData) {
       // Strip data- so that custom attribute heuristics below are
       // widely applied.
       // Treat data-action as URL below.
       off += 5;
-    } else {
+    }
+    int h = hashIgnoreCase(s, off, end);
+    int slot = attrSlot(h);
+    String known = ATTR_NAMES[slot];
+    if (known.length() == end - off
+        && CharsUtil.startsWithIgnoreCase(s, off, end, known)) {
+      return ATTR_TYPES[slot];
+    }
+    // Known names have no colon, so only look for one on a miss.
+    if (!isData) {
       int colon = CharsUtil.indexOf(s, off, end, ':');
       if (colon >= 0) {
         if (colon == off+5 && CharsUtil.startsWith(s, off, end, "xmlns")) {
@@ -181,10 +131,37 @@ class Attr {
         }
         // Treat svg:href and xlink:href as href below.
         off = colon + 1;
+        h = hashIgnoreCase(s, off, end);
+        slot = attrSlot(h);
+        known = ATTR_NAMES[slot];
+        if (known.length() == end - off
+            && CharsUtil.startsWithIgnoreCase(s, off, end, known)) {
+          return ATTR_TYPES[slot];
+        }
+      }
+    }
+    int n = end - off;
+    int cacheIndex = h & (CUSTOM_ATTR_CACHE.length - 1);
+    CustomAttr custom = CUSTOM_ATTR_CACHE[cacheIndex];
+    if (custom != null && custom.lowerCaseName.length() == n
+        && CharsUtil.startsWithIgnoreCase(
+            s, off, end, custom.lowerCaseName)) {
+      return custom.type;
+    }
+    ContentType t = customAttrType(s, off, end);
+    if (n <= MAX_CACHED_NAME_LENGTH) {
+      char[] lowerCaseName = new char[n];
+      for (int i = 0; i < n; ++i) {
+        lowerCaseName[i] = CharsUtil.lcase(s.charAt(off + i));
       }
+      CUSTOM_ATTR_CACHE[cacheIndex] = new CustomAttr(
+          new String(lowerCaseName), t);
     }
-    ContentType t = ATTR_TYPE_MAP.getIgnoreCase(s, off, end);
-    if (t != null) { return t; }
+    return t;
+  }
+
+  /** The type of a name that is not in ATTR_NAMES. */
+  private static ContentType customAttrType(String s, int off, int end) {
     // Treat partial event handler names as script.
     if (CharsUtil.startsWithIgnoreCase(s, off, end, "on")) {
       return ContentType.JS;
@@ -208,5 +185,203 @@ class Attr {
 }
 """
 
+# ATTR_TYPES describes the value of each known attribute.  See the doc comment
+# on ATTR_NAMES above.
+ATTR_TYPES = [
+  ("accept",           "Plain"),
+  ("accept-charset",   "Unsafe"),
+  ("action",           "URL"),
+  ("alt",              "Plain"),
+  ("archive",          "URL"),
+  ("async",            "Unsafe"),
+  ("attributename",    "Unsafe"),           # From <svg:set attributeName>
+  ("autocomplete",     "Plain"),
+  ("autofocus",        "Plain"),
+  ("autoplay",         "Plain"),
+  ("background",       "URL"),
+  ("border",           "Plain"),
+  ("checked",          "Plain"),
+  ("cite",             "URL"),
+  ("challenge",        "Unsafe"),
+  ("charset",          "Unsafe"),
+  ("class",            "Plain"),
+  ("classid",          "URL"),
+  ("codebase",         "URL"),
+  ("cols",             "Plain"),
+  ("colspan",          "Plain"),
+  ("content",          "Unsafe"),
+  ("contenteditable",  "Plain"),
+  ("contextmenu",      "Plain"),
+  ("controls",         "Plain"),
+  ("coords",           "Plain"),
+  ("crossorigin",      "Unsafe"),
+  ("data",             "URL"),
+  ("datetime",         "Plain"),
+  ("default",          "Plain"),
+  ("defer",            "Unsafe"),
+  ("dir",              "Plain"),
+  ("dirname",          "Plain"),
+  ("disabled",         "Plain"),
+  ("draggable",        "Plain"),
+  ("dropzone",         "Plain"),
+  ("enctype",          "Unsafe"),
+  ("for",              "Plain"),
+  ("form",             "Unsafe"),
+  ("formaction",       "URL"),
+  ("formenctype",      "Unsafe"),
+  ("formmethod",       "Unsafe"),
+  ("formnovalidate",   "Unsafe"),
+  ("formtarget",       "Plain"),
+  ("headers",          "Plain"),
+  ("height",           "Plain"),
+  ("hidden",           "Plain"),
+  ("high",             "Plain"),
+  ("href",             "URL"),
+  ("hreflang",         "Plain"),
+  ("http-equiv",       "Unsafe"),
+  ("icon",             "URL"),
+  ("id",               "Plain"),
+  ("ismap",            "Plain"),
+  ("keytype",          "Unsafe"),
+  ("kind",             "Plain"),
+  ("label",            "Plain"),
+  ("lang",             "Plain"),
+  ("language",         "Unsafe"),
+  ("list",             "Plain"),
+  ("longdesc",         "URL"),
+  ("loop",             "Plain"),
+  ("low",              "Plain"),
+  ("manifest",         "URL"),
+  ("max",              "Plain"),
+  ("maxlength",        "Plain"),
+  ("media",            "Plain"),
+  ("mediagroup",       "Plain"),
+  ("method",           "Unsafe"),
+  ("min",              "Plain"),
+  ("multiple",         "Plain"),
+  ("name",             "Plain"),
+  ("novalidate",       "Unsafe"),
+  # Skip handler names from
+  # http://www.w3.org/TR/html5/Overview.html#event-handlers-on-elements-document-objects-and-window-objects
+  # since we have special handling in attrType.
+  ("open",             "Plain"),
+  ("optimum",          "Plain"),
+  ("pattern",          "Unsafe"),
+  ("placeholder",      "Plain"),
+  ("poster",           "URL"),
+  ("profile",          "URL"),
+  ("preload",          "Plain"),
+  ("pubdate",          "Plain"),
+  ("radiogroup",       "Plain"),
+  ("readonly",         "Plain"),
+  ("rel",              "Unsafe"),
+  ("required",         "Plain"),
+  ("reversed",         "Plain"),
+  ("rows",             "Plain"),
+  ("rowspan",          "Plain"),
+  ("sandbox",          "Unsafe"),
+  ("spellcheck",       "Plain"),
+  ("scope",            "Plain"),
+  ("scoped",           "Plain"),
+  ("seamless",         "Plain"),
+  ("selected",         "Plain"),
+  ("shape",            "Plain"),
+  ("size",             "Plain"),
+  ("sizes",            "Plain"),
+  ("span",             "Plain"),
+  ("src",              "URL"),
+  ("srcdoc",           "Markup"),
+  ("srchtml",          "Unsafe"),
+  ("srclang",          "Plain"),
+  ("start",            "Plain"),
+  ("step",             "Plain"),
+  ("style",            "CSS"),
+  ("tabindex",         "Plain"),
+  ("target",           "Plain"),
+  ("title",            "Plain"),
+  ("type",             "Unsafe"),
+  ("usemap",           "URL"),
+  ("value",            "Unsafe"),
+  ("width",            "Plain"),
+  ("wrap",             "Plain"),
+  ("xmlns",            "URL"),
+]
+
+def lcase_hash(name):
+  """Mirrors Attr.hashIgnoreCase for lower-case ASCII names."""
+  n = len(name)
+  if n == 0:
+    return 0
+  h = n
+  for ch in (name[0], name[n >> 1], name[-1]):
+    h = (h * 31 + ord(ch)) & 0xffffffff
+  return h
+
+def attr_slot(h, d, n):
+  """Mirrors Attr.attrSlot given the displacement, d, for h's bucket."""
+  x = ((h ^ d) * 0x9e3779b1) & 0xffffffff
+  x ^= x >> 16
+  return x & (n - 1)
+
+def pow2(n):
+  """The least power of two >= n."""
+  p = 1
+  while p < n:
+    p *= 2
+  return p
+
+def perfect_hash(names):
+  """
+  Returns (slots, displacements) where slots[i] is the name in slot i or None and
+  displacements are the per-bucket inputs to attr_slot.
+  """
+  hashes = [lcase_hash(name) for name in names]
+  assert len(set(hashes)) == len(names), 'hashIgnoreCase conflates names'
+  n = pow2(2 * len(names))
+  n_buckets = pow2(len(names) // 4)
+  buckets = [[] for _ in range(n_buckets)]
+  for name in names:
+    buckets[lcase_hash(name) & (n_buckets - 1)].append(name)
+  slots = [None] * n
+  displacements = [0] * n_buckets
+  # Place the biggest buckets first while there are many free slots.
+  for b in sorted(range(n_buckets), key=lambda b: (-len(buckets[b]), b)):
+    d = 0
+    while True:
+      taken = [attr_slot(lcase_hash(name), d, n) for name in buckets[b]]
+      if (len(set(taken)) == len(taken)
+          and all(slots[t] is None for t in taken)):
+        break
+      d += 1
+    displacements[b] = d
+    for name, t in zip(buckets[b], taken):
+      slots[t] = name
+  return slots, displacements
+
+def wrap(items, indent='    ', width=80):
+  """Joins items with commas into lines that fit in width."""
+  lines = []
+  line = indent
+  for item in items:
+    item += ','
+    if line != indent and len(line) + 1 + len(item) > width:
+      lines.append(line)
+      line = indent
+    line += (line != indent and ' ' or '') + item
+  lines.append(line)
+  return '\n'.join(lines)
+
+types = dict(ATTR_TYPES)
+types[''] = 'Unsafe'
+slots, displacements = perfect_hash([name for name, _ in ATTR_TYPES])
+slots = [name or '' for name in slots]
+src = src.replace(
+    '/*ATTR_NAMES*/', wrap(['"%s"' % name for name in slots]))
+src = src.replace(
+    '/*ATTR_TYPES*/',
+    wrap(['ContentType.%s' % types[name] for name in slots]))
+src = src.replace(
+    '/*ATTR_DISPLACEMENTS*/', wrap([str(d) for d in displacements]))
+
 import dupe_methods
 print dupe_methods.dupe(src)
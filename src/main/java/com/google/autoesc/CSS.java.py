@@ -48,9 +48,8 @@ class CSS {
     */
   static @Nullable String maybeDecodeCSS(String s, int offset, int end) {
     int off = offset;
-    int i = off;
-    while (i < end && s.charAt(i) != '\\') { ++i; }
-    if (i == end) {
+    int i = CharsUtil.indexOf(s, off, end, '\\');
+    if (i < 0) {
       return null;
     }
     // The UTF-8 sequence for a codepoint is never longer than 1 + the
@@ -59,39 +58,90 @@ class CSS {
     StringBuilder sb = new StringBuilder(end - off);
     while (true) {
       CharsUtil.append(sb, s, off, i);
-      if (i+1 >= end) {
+      long esc = decodeEscape(s, i, end);
+      int rune = escapeRune(esc);
+      if (rune < 0) {
         return sb.toString();
       }
-      // http://www.w3.org/TR/css3-syntax/#SUBTOK-escape
-      // escape ::= unicode | '\' [#x20-#x7E#x80-#xD7FF#xE000-#xFFFD#x10000-#x10FFFF]
-      if (isHex(s.charAt(i+1))) {
-        // http://www.w3.org/TR/css3-syntax/#SUBTOK-unicode
-        //   unicode ::= '\' [0-9a-fA-F]{1,6} wc?
-        int j = i+2;
-        while (j < end && j < i+7 && isHex(s.charAt(j))) {
-          j++;
-        }
-        int rune = hexDecode(s, i+1, j);
-        if (rune > Character.MAX_CODE_POINT) {
-          rune >>= 4;
-          --j;
-        }
-        sb.appendCodePoint(rune);
-        // The optional space at the end allows a hex
-        // sequence to be followed by a literal hex.
-        // string(decodeCSS([]byte(`\A B`))) == "\nB"
-        off = skipCSSSpace(s, j, end);
-      } else {
-        // `\\` decodes to `\` and `\"` to `"`.
-        int rune = s.codePointAt(i+1);
-        sb.appendCodePoint(rune);
-        off = i + 1 + Character.charCount(rune);
-      }
+      sb.appendCodePoint(rune);
+      off = escapeEnd(esc);
       i = off;
       while (i < end && s.charAt(i) != '\\') { ++i; }
     }
   }
 
+  /**
+   * decodeEscape decodes the CSS3 escape sequence that starts with the
+   * backslash at s[off] so that callers can walk a value decoding escapes as
+   * they reach them instead of building a decoded copy.
+   * @return the decoded code point, or -1 if the escape is truncated, packed
+   *   with the index after the escape.
+   *   Use {@link #escapeRune} and {@link #escapeEnd} to unpack.
+   */
+  static long decodeEscape(String s, int off, int end) {
+    if (off+1 >= end) {
+      return packEscape(-1, end);
+    }
+    // http://www.w3.org/TR/css3-syntax/#SUBTOK-escape
+    // escape ::= unicode | '\' [#x20-#x7E#x80-#xD7FF#xE000-#xFFFD#x10000-#x10FFFF]
+    if (isHex(s.charAt(off+1))) {
+      // http://www.w3.org/TR/css3-syntax/#SUBTOK-unicode
+      //   unicode ::= '\' [0-9a-fA-F]{1,6} wc?
+      int j = off+2;
+      while (j < end && j < off+7 && isHex(s.charAt(j))) {
+        j++;
+      }
+      int rune = hexDecode(s, off+1, j);
+      if (rune > Character.MAX_CODE_POINT) {
+        rune >>= 4;
+        --j;
+      }
+      // The optional space at the end allows a hex
+      // sequence to be followed by a literal hex.
+      // string(decodeCSS([]byte(`\A B`))) == "\nB"
+      return packEscape(rune, skipCSSSpace(s, j, end));
+    }
+    // `\\` decodes to `\` and `\"` to `"`.
+    int rune = s.codePointAt(off+1);
+    return packEscape(rune, off + 1 + Character.charCount(rune));
+  }
+
+  private static long packEscape(int rune, int escEnd) {
+    return ((long) rune << 32) | escEnd;
+  }
+
+  /** The code point decoded by {@link #decodeEscape} or -1. */
+  static int escapeRune(long esc) {
+    return (int) (esc >> 32);
+  }
+
+  /** The index after the escape decoded by {@link #decodeEscape}. */
+  static int escapeEnd(long esc) {
+    return (int) esc;
+  }
+
+  /**
+   * writeDecoded writes s[off:end] with CSS3 escape sequences decoded.
+   */
+  static void writeDecoded(String s, int offset, int end, Writer out)
+      throws IOException {
+    int off = offset;
+    for (int i; (i = CharsUtil.indexOf(s, off, end, '\\')) >= 0;) {
+      out.write(s, off, i - off);
+      long esc = decodeEscape(s, i, end);
+      off = escapeEnd(esc);
+      int rune = escapeRune(esc);
+      if (rune < 0) { break; }
+      if (Character.isBmpCodePoint(rune)) {
+        out.write(rune);
+      } else {
+        out.write(Character.highSurrogate(rune));
+        out.write(Character.lowSurrogate(rune));
+      }
+    }
+    out.write(s, off, end - off);
+  }
+
   /** isHex returns whether the given character is a hex digit. */
   static boolean isHex(char c) {
     return ('0' <= c && c <= '9') || ('a' <= c && c <= 'f')
@@ -147,16 +197,37 @@ class CSS {
   /** Escapes HTML and CSS special characters using {@code \<hex>+} escapes. */
   private static final ReplacementTable REPLACEMENT_TABLE
     = new ReplacementTable() {
+        /**
+         * The replacements that end in a hex digit followed by a space so
+         * that a replacement and its separator take one write.
+         */
+        private final String[] spaced = new String[128];
+
+        @Override
+        ReplacementTable add(char ch, @Nullable String repl) {
+          spaced[ch] = repl != null && isHex(repl.charAt(repl.length()-1))
+              ? repl + " " : null;
+          return super.add(ch, repl);
+        }
+
+        @Override
+        int maxExpansion() {
+          // Plus a space separating a hex escape from what follows.
+          return super.maxExpansion() + 1;
+        }
+
         @Override
         protected void writeReplacement(
             int cp, String repl, int lookahead, Writer out)
             throws IOException {
-          out.write(repl);
-          if (isHex(repl.charAt(repl.length()-1)) &&
+          String withSpace = spaced[cp];
+          if (withSpace != null &&
               (lookahead == -1 || isHex((char) lookahead)
                || isCSSSpace((char) lookahead))) {
             // Separate the hex-escape from any following hex-digits.
-            out.write(' ');
+            out.write(withSpace);
+          } else {
+            out.write(repl);
           }
         }
       }
@@ -200,6 +271,11 @@ class CSS {
     REPLACEMENT_TABLE.escapeOnto(s, off, end, out);
   }
 
+  /** An upper bound on the length of escapeStrOnto's output for len chars. */
+  static long maxEscapedStrLength(int len) {
+    return REPLACEMENT_TABLE.maxEscapedLength(len);
+  }
+
   /**
    * filterValueOnto allows innocuous CSS values in the output including CSS
    * quantities (10px or 25%), ID or class literals (#foo, .bar), keyword values
@@ -220,57 +296,96 @@ class CSS {
 
   static void filterValueOnto(String s, int off, int end, Writer out)
       throws IOException {
-    String d = maybeDecodeCSS(s, off, end);
-    if (d != null) {
-      filterDecodedValueOnto(d, 0, d.length(), out);
+    if (isInnocuousValue(s, off, end)) {
+      writeDecoded(s, off, end, out);
     } else {
-      filterDecodedValueOnto(s, off, end, out);
+      out.write("ZautoescZ");
     }
   }
 
-  static void filterDecodedValueOnto(String s, int off, int end, Writer out)
-      throws IOException {
-    char[] idchars = new char[end - off];
-    int idi = 0;
-    // CSS3 error handling is specified as honoring string boundaries per
-    // http://www.w3.org/TR/css3-syntax/#error-handling :
-    //     Malformed declarations. User agents must handle unexpected
-    //     tokens encountered while parsing a declaration by reading until
-    //     the end of the declaration, while observing the rules for
-    //     matching pairs of (), [], {}, "", and '', and correctly handling
-    //     escapes. For example, a malformed declaration may be missing a
-    //     property, colon (:) or value.
-    // So we need to make sure that values do not have mismatched bracket
-    // or quote characters to prevent the browser from restarting parsing
-    // inside a string that might embed JavaScript source.
-    for (int i = off; i < end; ++i) {
-      char ch = s.charAt(i);
-      switch (ch) {
+  /**
+   * Maps ASCII identifier chars to distinct non-zero 6 bit codes ignoring
+   * case so that the last {@link #KEYWORD_WINDOW} identifier chars fit in a
+   * long.
+   */
+  private static final byte[] NMCHAR_CODES = new byte[128];
+  /** The number of identifier chars that isInnocuousValue remembers. */
+  private static final int KEYWORD_WINDOW = 10;
+  private static final long KEYWORD_WINDOW_MASK
+      = (1L << (6 * KEYWORD_WINDOW)) - 1;
+
+  static {
+    byte code = 0;
+    for (char ch = 'a'; ch <= 'z'; ++ch) {
+      NMCHAR_CODES[ch] = NMCHAR_CODES[ch & ~32] = ++code;
+    }
+    for (char ch = '0'; ch <= '9'; ++ch) { NMCHAR_CODES[ch] = ++code; }
+    NMCHAR_CODES['_'] = ++code;
+    // '-' is not included since "-moz-binding" should be treated as
+    // "mozbinding".
+  }
+
+  private static final long EXPRESSION = keywordCodes("expression");
+  private static final long MOZBINDING = keywordCodes("mozbinding");
+
+  private static long keywordCodes(String keyword) {
+    assert keyword.length() == KEYWORD_WINDOW;
+    long codes = 0;
+    for (int i = 0, n = keyword.length(); i < n; ++i) {
+      codes = (codes << 6) | NMCHAR_CODES[keyword.charAt(i)];
+    }
+    return codes;
+  }
+
+  /**
+   * isInnocuousValue returns whether s[off:end], once CSS3 escapes are
+   * decoded, is a CSS value that filterValueOnto allows.
+   * Escapes are decoded as they are reached so no decoded copy is made.
+   */
+  static boolean isInnocuousValue(String s, int off, int end) {
+    // The codes of the last KEYWORD_WINDOW ASCII identifier chars.
+    long recent = 0;
+    int prev = -1;
+    for (int i = off; i < end;) {
+      int cp = s.charAt(i);
+      if (cp == '\\') {
+        long esc = decodeEscape(s, i, end);
+        cp = escapeRune(esc);
+        if (cp < 0) { break; }
+        i = escapeEnd(esc);
+      } else {
+        ++i;
+      }
+      // CSS3 error handling is specified as honoring string boundaries per
+      // http://www.w3.org/TR/css3-syntax/#error-handling :
+      //     Malformed declarations. User agents must handle unexpected
+      //     tokens encountered while parsing a declaration by reading until
+      //     the end of the declaration, while observing the rules for
+      //     matching pairs of (), [], {}, "", and '', and correctly handling
+      //     escapes. For example, a malformed declaration may be missing a
+      //     property, colon (:) or value.
+      // So we need to make sure that values do not have mismatched bracket
+      // or quote characters to prevent the browser from restarting parsing
+      // inside a string that might embed JavaScript source.
+      switch (cp) {
         case 0: case '"': case '\'': case '(': case ')': case '/': case ';':
         case '@': case '[': case '\\': case ']': case '`': case '{': case '}':
-          out.write("ZautoescZ");
-          return;
+          return false;
         case '-':
           // Disallow <!-- or -->.
           // -- should not appear in valid identifiers.
-          if (i != 0 && '-' == s.charAt(i-1)) {
-            out.write("ZautoescZ");
-            return;
-          }
+          if (prev == '-') { return false; }
           break;
         default:
-          if (ch < 0x80 && isCSSNmchar(ch)) {
-            if ('A' <= ch && ch <= 'Z') { ch |= 32; }
-            idchars[idi++] = ch;
+          if (cp < 0x80 && NMCHAR_CODES[cp] != 0) {
+            // Look for expression or mozbinding in the identifier chars.
+            recent = ((recent << 6) | NMCHAR_CODES[cp]) & KEYWORD_WINDOW_MASK;
+            if (recent == EXPRESSION || recent == MOZBINDING) { return false; }
           }
       }
+      prev = cp;
     }
-    if (CharsUtil.containsIgnoreCase(idchars, 0, idi, "expression")
-        || CharsUtil.containsIgnoreCase(idchars, 0, idi, "mozbinding")) {
-      out.write("ZautoescZ");
-      return;
-    }
-    out.write(s, off, end - off);
+    return true;
   }
 
   /**
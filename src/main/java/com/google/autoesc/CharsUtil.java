@@ -30,14 +30,37 @@ final class CharsUtil {
     return Character.codePointAt(s, i);
   }
 
-  /** findHtmlCommentEnd is equivalent to {@code indexOf("-->")}. */
+  /**
+   * findHtmlCommentEnd is equivalent to {@code indexOf("-->")} but does not
+   * look past end, so scanning a slice of a large input is O(slice).
+   */
   static int findHtmlCommentEnd(String s, int off, int end) {
-    int i = s.indexOf("-->", off);
-    if (i + 3 > end) { return -1; }
-    return i;
+    // Every run of 3 chars contains an index that is a multiple of 3 past off,
+    // so we only need to examine every third char.
+    for (int i = off; i < end; i += 3) {
+      char c = s.charAt(i);
+      if (c == '-') {
+        if (i+1 < end) {
+          c = s.charAt(i+1);
+          if (c == '>') {
+            if (i > off && s.charAt(i-1) == '-') { return i-1; }
+          } else if (c == '-' && i+2 < end && s.charAt(i+2) == '>') {
+            return i;
+          }
+        }
+      } else if (c == '>') {
+        if (i - 2 >= off && s.charAt(i-1) == '-' && s.charAt(i-2) == '-') {
+          return i - 2;
+        }
+      }
+    }
+    return -1;
   }
 
-  /** findHtmlCommentEnd is equivalent to {@code indexOf("-->")}. */
+  /**
+   * findHtmlCommentEnd is equivalent to {@code indexOf("-->")} but does not
+   * look past end.
+   */
   static int findHtmlCommentEnd(char[] s, int off, int end) {
     for (int i = off; i < end; i += 3) {
       char c = s[i];
@@ -45,7 +68,7 @@ final class CharsUtil {
         if (i+1 < end) {
           c = s[i+1];
           if (c == '>') {
-            if (i > off && s[i] == '-') { return i-1; }
+            if (i > off && s[i-1] == '-') { return i-1; }
           } else if (c == '-' && i+2 < end && s[i+2] == '>') { return i; }
         }
       } else if (c == '>') {
@@ -55,14 +78,26 @@ final class CharsUtil {
     return -1;
   }
 
-  /** findEndTag is equivalent to {@code indexOf("</")}. */
+  /**
+   * findEndTag is equivalent to {@code indexOf("</")} but does not look past
+   * end, so scanning a slice of a large input is O(slice).
+   */
   static int findEndTag(String s, int off, int end) {
-    int i = s.indexOf("</", off);
-    if (i + 2 > end) { return -1; }
-    return i;
+    for (int i = off; i < end; i += 2) {
+      char c = s.charAt(i);
+      if (c == '<') {
+        if (i+1 < end && s.charAt(i+1) == '/') { return i; }
+      } else if (c == '/' && i != off && s.charAt(i-1) == '<') {
+        return i-1;
+      }
+    }
+    return -1;
   }
 
-  /** findEndTag is equivalent to {@code indexOf("</")}. */
+  /**
+   * findEndTag is equivalent to {@code indexOf("</")} but does not look past
+   * end.
+   */
   static int findEndTag(char[] s, int off, int end) {
     for (int i = off; i < end; i += 2) {
       char c = s[i];
@@ -143,6 +178,14 @@ final class CharsUtil {
     return -1;
   }
 
+  /** The least index of ch in s between off (inclusive) and end (exclusive). */
+  static int indexOf(CharSequence s, int off, int end, char ch) {
+    for (int i = off; i < end; ++i) {
+      if (s.charAt(i) == ch) { return i; }
+    }
+    return -1;
+  }
+
   /**
    * True iff lowerCase is a substring of the lower-case version of s[off:end].
    */
@@ -205,4 +248,22 @@ final class CharsUtil {
     // as a length.
     sb.append(s, off, end - off);
   }
+
+  /**
+   * Copies s[off:end] into dst at pos.
+   * @return the position in dst after the copied chars.
+   */
+  static int getChars(String s, int off, int end, char[] dst, int pos) {
+    s.getChars(off, end, dst, pos);
+    return pos + (end - off);
+  }
+
+  /**
+   * Copies s[off:end] into dst at pos.
+   * @return the position in dst after the copied chars.
+   */
+  static int getChars(char[] s, int off, int end, char[] dst, int pos) {
+    System.arraycopy(s, off, dst, pos, end - off);
+    return pos + (end - off);
+  }
 }
@@ -0,0 +1,352 @@
+// Copyright (C) 2026 Google Inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.autoesc;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A writer that never blocks: it appends to a chain of pooled buffers and
+ * hands each full buffer to a {@link Sink} as the sink asks for them, so an
+ * {@link HTMLEscapingWriter} can render onto an asynchronous server
+ * connection.
+ * <p>
+ * The sink asks for chunks via {@link #request}, as a reactive-streams
+ * subscriber would.  Chunks that it has not asked for wait in the chain.
+ * Renderers that must not buffer without bound check {@link #isWritable}
+ * and, when it is false, stop rendering and resume from {@link #onWritable}
+ * instead of blocking.
+ * <p>
+ * Writing is done by one thread at a time, but {@link #request} and
+ * {@link Chunk#release} may be called from any thread.  None of these
+ * acquire a monitor, so a thread waiting for a sink does not pin its
+ * carrier thread.  All {@link Writer} methods that would otherwise
+ * synchronize on {@link Writer#lock} are overridden.
+ */
+@NotThreadSafe
+public final class ChunkedWriter extends Writer {
+  /**
+   * Receives chunks.  Calls to a sink are never concurrent but may be made
+   * from the writing thread or from a thread that calls {@link #request}, so
+   * a sink should hand chunks off instead of blocking.
+   */
+  public interface Sink {
+    /**
+     * Receives the next chunk of output.  The sink should
+     * {@link Chunk#release release} it once its content has been consumed.
+     */
+    void onChunk(Chunk chunk);
+
+    /** Called once after the writer is closed and every chunk delivered. */
+    void onComplete();
+  }
+
+  /** A run of output chars in a pooled buffer. */
+  public static final class Chunk {
+    private final Pool pool;
+    private final char[] chars;
+    private final int length;
+
+    Chunk(Pool pool, char[] chars, int length) {
+      this.pool = pool;
+      this.chars = chars;
+      this.length = length;
+    }
+
+    /** The number of chars in the chunk. */
+    public int length() { return length; }
+
+    /** A read-only view of the chunk's content. */
+    public CharBuffer asCharBuffer() {
+      return CharBuffer.wrap(chars, 0, length).asReadOnlyBuffer();
+    }
+
+    /** Writes the chunk's content to out. */
+    public void writeTo(Writer out) throws IOException {
+      out.write(chars, 0, length);
+    }
+
+    /**
+     * Returns the buffer to its pool.  The chunk must not be used after
+     * this.
+     */
+    public void release() {
+      pool.release(chars);
+    }
+
+    @Override
+    public String toString() {
+      return new String(chars, 0, length);
+    }
+  }
+
+  /** Buffers shared by many writers. */
+  @ThreadSafe
+  public static final class Pool {
+    private final int chunkSize;
+    private final int maxPooled;
+    private final ConcurrentLinkedQueue<char[]> free
+        = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger nFree = new AtomicInteger();
+    private final AtomicLong nAllocated = new AtomicLong();
+
+    /**
+     * @param chunkSize the number of chars in a buffer.
+     * @param maxPooled the number of released buffers to keep for reuse.
+     */
+    public Pool(int chunkSize, int maxPooled) {
+      if (chunkSize <= 0 || maxPooled < 0) {
+        throw new IllegalArgumentException(
+            "chunkSize=" + chunkSize + ", maxPooled=" + maxPooled);
+      }
+      this.chunkSize = chunkSize;
+      this.maxPooled = maxPooled;
+    }
+
+    /** The number of chars in a buffer. */
+    public int getChunkSize() { return chunkSize; }
+
+    /** The number of buffers allocated because none were free. */
+    public long getAllocationCount() { return nAllocated.get(); }
+
+    char[] take() {
+      char[] buf = free.poll();
+      if (buf != null) {
+        nFree.decrementAndGet();
+        return buf;
+      }
+      nAllocated.incrementAndGet();
+      return new char[chunkSize];
+    }
+
+    void release(char[] buf) {
+      if (nFree.incrementAndGet() <= maxPooled) {
+        free.add(buf);
+      } else {
+        nFree.decrementAndGet();
+      }
+    }
+  }
+
+  /** A pool of 8K char buffers shared by writers that do not specify one. */
+  public static final Pool DEFAULT_POOL = new Pool(1 << 13, 1 << 10);
+  /**
+   * The default number of chunks that may wait for the sink before
+   * {@link #isWritable} is false.
+   */
+  public static final int DEFAULT_HIGH_WATER_MARK = 4;
+
+  private final Sink sink;
+  private final Pool pool;
+  private final int highWaterMark;
+  /** The buffer being filled or null.  Used only by the writing thread. */
+  private @Nullable char[] buf;
+  /** The number of chars in buf. */
+  private int n;
+
+  /** Chunks that the sink has not asked for yet. */
+  private final ConcurrentLinkedQueue<Chunk> ready
+      = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger nReady = new AtomicInteger();
+  /** The number of chunks the sink asked for but has not received. */
+  private final AtomicLong demand = new AtomicLong();
+  /**
+   * Non-zero while a thread is delivering chunks.  Counts the number of
+   * times delivery was requested so that the delivering thread loops
+   * instead of a second thread delivering concurrently.
+   */
+  private final AtomicInteger wip = new AtomicInteger();
+  private volatile boolean closed;
+  /** True once the sink has been told.  Accessed only while delivering. */
+  private boolean completed;
+  private final AtomicReference<Runnable> writabilityListener
+      = new AtomicReference<>();
+
+  /** Writes onto 8K char buffers from {@link #DEFAULT_POOL}. */
+  public ChunkedWriter(Sink sink) {
+    this(sink, DEFAULT_POOL, DEFAULT_HIGH_WATER_MARK);
+  }
+
+  /**
+   * @param pool supplies buffers.
+   * @param highWaterMark the number of chunks that may wait for the sink
+   *     before {@link #isWritable} is false.
+   */
+  public ChunkedWriter(Sink sink, Pool pool, int highWaterMark) {
+    if (highWaterMark <= 0) {
+      throw new IllegalArgumentException("highWaterMark=" + highWaterMark);
+    }
+    this.sink = sink;
+    this.pool = pool;
+    this.highWaterMark = highWaterMark;
+  }
+
+  @Override
+  public void write(char[] cbuf, int off, int len) throws IOException {
+    for (int i = off, end = off + len; i < end;) {
+      if (buf == null) { buf = pool.take(); }
+      int k = Math.min(end - i, buf.length - n);
+      System.arraycopy(cbuf, i, buf, n, k);
+      n += k;
+      i += k;
+      if (n == buf.length) { emit(); }
+    }
+  }
+
+  @Override
+  public void write(String s, int off, int len) throws IOException {
+    for (int i = off, end = off + len; i < end;) {
+      if (buf == null) { buf = pool.take(); }
+      int k = Math.min(end - i, buf.length - n);
+      s.getChars(i, i + k, buf, n);
+      n += k;
+      i += k;
+      if (n == buf.length) { emit(); }
+    }
+  }
+
+  @Override
+  public void write(String s) throws IOException {
+    write(s, 0, s.length());
+  }
+
+  @Override
+  public void write(int c) throws IOException {
+    if (buf == null) { buf = pool.take(); }
+    buf[n++] = (char) c;
+    if (n == buf.length) { emit(); }
+  }
+
+  @Override
+  public Writer append(CharSequence csq) throws IOException {
+    String s = String.valueOf(csq);
+    write(s, 0, s.length());
+    return this;
+  }
+
+  @Override
+  public Writer append(CharSequence csq, int start, int end)
+      throws IOException {
+    String s = String.valueOf(csq);
+    write(s, start, end - start);
+    return this;
+  }
+
+  @Override
+  public Writer append(char c) throws IOException {
+    write(c);
+    return this;
+  }
+
+  /** Hands any partially filled buffer to the sink as a chunk. */
+  @Override
+  public void flush() throws IOException {
+    if (n != 0) { emit(); }
+  }
+
+  /**
+   * Flushes and lets the sink know that no more chunks will follow once it
+   * has received the ones waiting.
+   */
+  @Override
+  public void close() throws IOException {
+    if (closed) { return; }
+    flush();
+    if (buf != null) {
+      pool.release(buf);
+      buf = null;
+    }
+    closed = true;
+    deliver();
+  }
+
+  /**
+   * Asks for k more chunks to be delivered to the sink.
+   * May be called from any thread including from within the sink.
+   *
+   * @param k positive.  {@link Long#MAX_VALUE} asks for all chunks.
+   */
+  public void request(long k) {
+    if (k <= 0) { throw new IllegalArgumentException("k=" + k); }
+    for (long d; (d = demand.get()) != Long.MAX_VALUE;) {
+      long nd = d + k;
+      if (nd < 0) { nd = Long.MAX_VALUE; }  // Saturate on overflow.
+      if (demand.compareAndSet(d, nd)) { break; }
+    }
+    deliver();
+  }
+
+  /**
+   * True if fewer chunks than the high water mark are waiting for the sink,
+   * so the renderer should keep writing.
+   */
+  public boolean isWritable() {
+    return nReady.get() < highWaterMark;
+  }
+
+  /**
+   * Runs r once, as soon as {@link #isWritable} is true, on the thread that
+   * makes it so: either this thread, or a thread whose {@link #request}
+   * delivers a waiting chunk.
+   * This replaces any listener that has not yet run.
+   */
+  public void onWritable(Runnable r) {
+    writabilityListener.set(r);
+    if (isWritable()) { notifyWritable(); }
+  }
+
+  private void emit() {
+    ready.add(new Chunk(pool, buf, n));
+    nReady.incrementAndGet();
+    buf = null;
+    n = 0;
+    deliver();
+  }
+
+  /** Delivers chunks while the sink wants them. */
+  private void deliver() {
+    if (wip.getAndIncrement() != 0) { return; }
+    int missed = 1;
+    do {
+      for (long d; (d = demand.get()) != 0;) {
+        Chunk chunk = ready.poll();
+        if (chunk == null) { break; }
+        if (d != Long.MAX_VALUE) { demand.decrementAndGet(); }
+        nReady.decrementAndGet();
+        sink.onChunk(chunk);
+      }
+      if (closed && !completed && ready.isEmpty()) {
+        completed = true;
+        sink.onComplete();
+      }
+      missed = wip.addAndGet(-missed);
+    } while (missed != 0);
+    if (isWritable()) { notifyWritable(); }
+  }
+
+  private void notifyWritable() {
+    Runnable r = writabilityListener.getAndSet(null);
+    if (r != null) { r.run(); }
+  }
+}
@@ -0,0 +1,366 @@
+// Copyright (C) 2026 Google Inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.autoesc;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.google.common.base.Throwables;
+
+/**
+ * The content written to an {@link HTMLEscapingWriter} after its first
+ * unfilled {@link Hole}.
+ * <p>
+ * While the queue is empty, the writer writes directly to its underlying
+ * writer.  Once a hole is reserved, trusted strings, untrusted values and
+ * holes are queued as given instead of being escaped, since the context in
+ * which they appear depends on the values of the holes before them.
+ * When the hole at the head of the queue is filled, the thread that filled
+ * it writes queued content until it reaches an unfilled hole, so output is
+ * the same as if every value had been available when it was written.
+ * <p>
+ * Only the thread that owns the writer adds to the queue, and only holds the
+ * lock while deciding whether to queue, so the writer may write directly
+ * while the queue is empty without racing a thread that is filling a hole.
+ */
+@ThreadSafe
+final class DeferredContent {
+  private final HTMLEscapingWriter w;
+  /**
+   * Not a monitor so that threads waiting on a slow fill can unmount from
+   * their carrier thread.
+   */
+  private final ReentrantLock lock = new ReentrantLock();
+  /**
+   * Strings of trusted content, {@link Hole}s, {@link StreamHole}s, and
+   * {@link #CLOSE}.
+   * Guarded by lock.
+   */
+  private final ArrayDeque<Object> queue = new ArrayDeque<>();
+  /** Any failure to write queued content.  Guarded by lock. */
+  private @Nullable Throwable failure;
+
+  /** Queued by a close of the writer while holes are unfilled. */
+  private static final Object CLOSE = new Object();
+
+  DeferredContent(HTMLEscapingWriter w) {
+    this.w = w;
+  }
+
+  /** Reserves a hole at the end of the content written so far. */
+  Hole defer() throws IOException {
+    Hole h = new Hole(this);
+    lock.lock();
+    try {
+      checkFailure();
+      queue.add(h);
+    } finally {
+      lock.unlock();
+    }
+    return h;
+  }
+
+  /**
+   * Reserves a stream hole at the end of the content written so far.
+   * If there is no unfilled hole before it, it starts receiving items
+   * immediately.
+   */
+  StreamHole deferStream() throws IOException, TemplateException {
+    StreamHole h = new StreamHole(this);
+    lock.lock();
+    try {
+      checkFailure();
+      boolean isHead = queue.isEmpty();
+      queue.add(h);
+      if (isHead) {
+        try {
+          h.start(w);
+        } catch (Throwable th) {
+          throw failed(th);
+        }
+      }
+    } finally {
+      lock.unlock();
+    }
+    return h;
+  }
+
+  /** True if content written now must be queued behind an unfilled hole. */
+  boolean isQueueing() throws IOException {
+    lock.lock();
+    try {
+      checkFailure();
+      return !queue.isEmpty();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Queues the trusted content s[off:end] if there is an unfilled hole.
+   * @return true if queued; false if the caller should write s directly.
+   */
+  boolean enqueueSafe(String s, int off, int end) throws IOException {
+    lock.lock();
+    try {
+      checkFailure();
+      if (queue.isEmpty()) { return false; }
+      queue.add(s.substring(off, end));
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Queues the trusted content s[off:end] if there is an unfilled hole.
+   * @return true if queued; false if the caller should write s directly.
+   */
+  boolean enqueueSafe(char[] s, int off, int end) throws IOException {
+    lock.lock();
+    try {
+      checkFailure();
+      if (queue.isEmpty()) { return false; }
+      queue.add(new String(s, off, end - off));
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Queues the untrusted value o if there is an unfilled hole.
+   * @return true if queued; false if the caller should write o directly.
+   */
+  boolean enqueueUnsafe(@Nullable Object o) throws IOException {
+    lock.lock();
+    try {
+      checkFailure();
+      if (queue.isEmpty()) { return false; }
+      queue.add(new Hole(this, snapshot(o)));
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Queues the untrusted content s[off:end] if there is an unfilled hole.
+   * @return true if queued; false if the caller should write s directly.
+   */
+  boolean enqueueUnsafe(String s, int off, int end) throws IOException {
+    lock.lock();
+    try {
+      checkFailure();
+      if (queue.isEmpty()) { return false; }
+      queue.add(new Hole(this, s.substring(off, end)));
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Queues the untrusted content s[off:end] if there is an unfilled hole.
+   * @return true if queued; false if the caller should write s directly.
+   */
+  boolean enqueueUnsafe(char[] s, int off, int end) throws IOException {
+    lock.lock();
+    try {
+      checkFailure();
+      if (queue.isEmpty()) { return false; }
+      queue.add(new Hole(this, new String(s, off, end - off)));
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Queues a close of the writer if there is an unfilled hole.
+   * @return true if queued; false if the caller should close directly.
+   */
+  boolean enqueueClose() throws IOException {
+    lock.lock();
+    try {
+      checkFailure();
+      if (queue.isEmpty()) { return false; }
+      queue.add(CLOSE);
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Flushes the writer's underlying writer without racing a thread that is
+   * writing queued content.
+   */
+  void flush() throws IOException {
+    lock.lock();
+    try {
+      checkFailure();
+      w.getWriter().flush();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  void fill(Hole h, @Nullable Object value)
+      throws IOException, TemplateException {
+    lock.lock();
+    try {
+      if (h.filled) { throw new IllegalStateException("already filled"); }
+      h.filled = true;
+      h.value = snapshot(value);
+      if (queue.peek() == h) {
+        writeQueued();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  void append(StreamHole h, @Nullable Object value)
+      throws IOException, TemplateException {
+    lock.lock();
+    try {
+      if (h.ended) { throw new IllegalStateException("ended"); }
+      checkFailure();
+      Object item = snapshot(value);
+      if (queue.peek() == h) {
+        try {
+          h.write(w, item);
+        } catch (Throwable th) {
+          throw failed(th);
+        }
+      } else {
+        h.pending.add(item);
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  void end(StreamHole h) throws IOException, TemplateException {
+    lock.lock();
+    try {
+      if (h.ended) { throw new IllegalStateException("already ended"); }
+      h.ended = true;
+      if (queue.peek() == h) {
+        writeQueued();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  boolean isEnded(StreamHole h) {
+    lock.lock();
+    try {
+      return h.ended;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** Abandons queued content because a value could not be produced. */
+  void fail(Throwable th) {
+    lock.lock();
+    try {
+      if (failure == null) { failure = th; }
+      queue.clear();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  boolean isFilled(Hole h) {
+    lock.lock();
+    try {
+      return h.filled;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** Writes queued content up to the first unfilled hole. */
+  private void writeQueued() throws IOException, TemplateException {
+    checkFailure();
+    try {
+      for (Object head; (head = queue.peek()) != null;) {
+        if (head instanceof Hole) {
+          Hole h = (Hole) head;
+          if (!h.filled) { return; }
+          queue.poll();
+          Object value = h.value;
+          h.value = null;
+          w.writeUnsafeUnflushed(value);
+        } else if (head instanceof StreamHole) {
+          StreamHole h = (StreamHole) head;
+          if (!h.started) {
+            h.start(w);
+            for (Object item : h.pending) {
+              h.write(w, item);
+            }
+            h.pending.clear();
+          }
+          if (!h.ended) { return; }
+          queue.poll();
+          h.finish(w);
+        } else if (head == CLOSE) {
+          queue.poll();
+          w.closeNow();
+        } else {
+          queue.poll();
+          w.writeSafeUnflushed((String) head);
+        }
+      }
+    } catch (Throwable th) {
+      throw failed(th);
+    }
+  }
+
+  /**
+   * Records a failure to write queued content so that the writer's owner
+   * learns of it, and rethrows th.  Declared to return so that callers can
+   * {@code throw} the result to show that control does not continue.
+   */
+  private IOException failed(Throwable th) throws IOException {
+    failure = th;
+    queue.clear();
+    Throwables.propagateIfPossible(th, IOException.class);
+    throw Throwables.propagate(th);
+  }
+
+  private void checkFailure() throws IOException {
+    if (failure != null) {
+      throw new IOException("Failed to write deferred content", failure);
+    }
+  }
+
+  /**
+   * Copies mutable character sequences so that later changes by the caller do
+   * not affect queued content.
+   */
+  private static @Nullable Object snapshot(@Nullable Object o) {
+    return o instanceof CharSequence && !(o instanceof String)
+        ? o.toString() : o;
+  }
+}
@@ -40,18 +40,15 @@ final class Doctype {
       }
     }
 
-    Trie<Integer> trie = TOP_LEVEL_TAG_NAME;
-    for (; off < end; ++off) {
-      char ch = s.charAt(off);
-      if (('A' <= ch && ch <= 'Z') || ('a' <= ch && ch <= 'z')) {
-        trie = trie.getIgnoreCase(ch);
-        if (trie == null) { return Context.State.XML; }
-      } else {
+    int nameEnd = off;
+    for (; nameEnd < end; ++nameEnd) {
+      char ch = s.charAt(nameEnd);
+      if (!(('A' <= ch && ch <= 'Z') || ('a' <= ch && ch <= 'z'))) {
         break;
       }
     }
 
-    Integer state = trie.value;
+    Integer state = TOP_LEVEL_TAG_NAME.getIgnoreCase(s, off, nameEnd);
     if (state == null) { return Context.State.XML; }
     return state;
   }
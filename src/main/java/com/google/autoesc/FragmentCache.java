@@ -0,0 +1,186 @@
+// Copyright (C) 2026 Google Inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.autoesc;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.Weigher;
+
+/**
+ * Caches the escaped output of fragments that are deterministic given their
+ * inputs, like a product card for a given product version, so that writing
+ * the fragment again neither runs the template code nor the escaper's state
+ * machine.
+ * <p>
+ * The same fragment escapes differently in different contexts, e.g. in
+ * text and in an attribute value, so entries are keyed by the writer's
+ * context, including any attribute delimiter, and by the settings that
+ * affect escaping, like {@link HTMLEscapingWriter#isSoft soft mode}, as
+ * well as by the caller's key.  Each entry stores the context after the
+ * fragment so that a hit leaves the writer as rendering would.
+ * <p>
+ * The cache is bounded by the approximate number of bytes of cached output.
+ */
+@ThreadSafe
+public final class FragmentCache {
+  private final Cache<Key, Rendered> cache;
+  /** Sizes of rendered fragments, used to presize buffers for misses. */
+  private final OutputSizeEstimator sizes = new OutputSizeEstimator(256);
+
+  /**
+   * @param maxBytes the approximate bound on the memory used by cached
+   *     output.
+   */
+  public FragmentCache(long maxBytes) {
+    this.cache = CacheBuilder.newBuilder()
+        .maximumWeight(maxBytes)
+        .weigher(new Weigher<Key, Rendered>() {
+          @Override
+          public int weigh(Key k, Rendered r) {
+            // Two bytes per char plus a rough allowance for the entry.
+            return 2 * r.output.length() + 64;
+          }
+        })
+        .recordStats()
+        .build();
+  }
+
+  /**
+   * Writes the fragment to w, using output cached from an earlier write of a
+   * fragment with an equal key in the same context when there is one.
+   * <p>
+   * Fragments that write values via {@link HTMLEscapingWriter#defer holes}
+   * or futures are written directly and not cached, as are fragments
+   * written while w has an unfilled hole since the start context is not
+   * known.
+   *
+   * @param key identifies the fragment's output given its start context.
+   *     Must have value semantics for {@code equals} and {@code hashCode},
+   *     and should include any inputs that affect the output, like a
+   *     version.
+   * @param fragment writes the fragment on a miss.
+   */
+  public void writeTo(
+      HTMLEscapingWriter w, Object key, ParallelRenderer.Fragment fragment)
+      throws IOException, TemplateException {
+    if (w.isDeferring()) {
+      fragment.writeTo(w);
+      return;
+    }
+    Key k = new Key(
+        key, w.getContext(), w.getRtable(), w.isSoft(),
+        w.getSchemeAllowlist());
+    Rendered r = cache.getIfPresent(k);
+    if (r == null) {
+      StringWriter buf = sizes.newStringWriter();
+      HTMLEscapingWriter fw = new HTMLEscapingWriter(buf);
+      fw.setContextAndRtable(k.context, k.rtable);
+      fw.setSoft(k.soft);
+      fw.setSchemeAllowlist(k.schemes);
+      fragment.writeTo(fw);
+      if (fw.isDeferring()) {
+        // Wrote a hole so the output is not available yet.
+        fragment.writeTo(w);
+        return;
+      }
+      fw.flushUnsafeBuffered();
+      r = new Rendered(buf.toString(), fw.getContext(), fw.getRtable());
+      sizes.record(r.output.length());
+      cache.put(k, r);
+    }
+    w.flushUnsafeBuffered();
+    @SuppressWarnings("resource")  // Not allocated here
+    Writer out = w.getWriter();
+    HTMLEscapingWriter.writeConstant(out, r.output);
+    w.setContextAndRtable(r.context, r.rtable);
+  }
+
+  /** Hit and miss counts, and the number of evictions. */
+  public CacheStats stats() {
+    return cache.stats();
+  }
+
+  /**
+   * The size that most fragments rendered on a miss fit in, so that callers
+   * can presize buffers for pages built from cached fragments.
+   */
+  public int estimatedOutputSize() {
+    return sizes.estimatedOutputSize();
+  }
+
+  /** The number of cached fragment outputs. */
+  public long size() {
+    return cache.size();
+  }
+
+  /** Discards all cached output. */
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  /** A caller's key with the writer state that affects its output. */
+  private static final class Key {
+    final Object key;
+    final int context;
+    final ReplacementTable rtable;
+    final boolean soft;
+    final SchemeAllowlist schemes;
+
+    Key(Object key, int context, ReplacementTable rtable, boolean soft,
+        SchemeAllowlist schemes) {
+      this.key = key;
+      this.context = context;
+      this.rtable = rtable;
+      this.soft = soft;
+      this.schemes = schemes;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Key)) { return false; }
+      Key that = (Key) o;
+      return this.context == that.context && this.rtable == that.rtable
+          && this.soft == that.soft && this.key.equals(that.key)
+          && this.schemes.equals(that.schemes);
+    }
+
+    @Override
+    public int hashCode() {
+      return key.hashCode()
+          ^ (31 * (context + 31 * System.identityHashCode(rtable)))
+          ^ (soft ? 0x5f7 : 0);
+    }
+  }
+
+  /** The output of a fragment and the context after it. */
+  private static final class Rendered {
+    final String output;
+    final int context;
+    final ReplacementTable rtable;
+
+    Rendered(String output, int context, ReplacementTable rtable) {
+      this.output = output;
+      this.context = context;
+      this.rtable = rtable;
+    }
+  }
+}
@@ -0,0 +1,241 @@
+// Copyright (C) 2026 Google Inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.autoesc;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.Weigher;
+
+/**
+ * A channel that gzips bytes onto another channel, and that splices in
+ * constant content, like normalized template literals and cached fragments,
+ * compressed once and shared by all requests.
+ * <p>
+ * Use it under a {@link Utf8ChannelWriter}.  Constant content of at least
+ * {@link #MIN_PRECOMPRESSED_CHARS} chars written by the
+ * {@link MemoizingHTMLEscapingWriter}, {@link RowRenderer}, or a
+ * {@link FragmentCache} skips the compressor: the stream is
+ * {@link Deflater#FULL_FLUSH full flushed} so that it ends on a byte
+ * boundary and later blocks do not refer back past it, and then the
+ * constant's deflated blocks are copied to the channel.  Only the dynamic,
+ * escaped parts of a page are compressed per request.
+ * <p>
+ * Each splice costs a few bytes and the compressor's window, so output is
+ * a little larger than compressing the whole page at once.
+ */
+@NotThreadSafe
+public final class GzipChannel implements WritableByteChannel {
+  /** The length of the shortest constant that is compressed separately. */
+  public static final int MIN_PRECOMPRESSED_CHARS = 512;
+
+  private static final byte[] HEADER = {
+    0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0,
+  };
+
+  /** Constants' compressed forms, shared by all channels. */
+  private static final Cache<String, Precompressed> PRECOMPRESSED
+      = CacheBuilder.newBuilder()
+      .maximumWeight(1 << 24)
+      .weigher(new Weigher<String, Precompressed>() {
+        @Override
+        public int weigh(String s, Precompressed p) {
+          return 2 * s.length() + p.raw.length + p.deflated.length;
+        }
+      })
+      .build();
+
+  /** A constant's UTF-8 bytes and their raw deflate blocks. */
+  @Immutable
+  static final class Precompressed {
+    final byte[] raw;
+    /**
+     * Has no BFINAL block and ends byte-aligned (FULL_FLUSH), so more blocks
+     * may follow.
+     */
+    final byte[] deflated;
+
+    Precompressed(byte[] raw, byte[] deflated) {
+      this.raw = raw;
+      this.deflated = deflated;
+    }
+  }
+
+  private WritableByteChannel out;
+  private final Deflater deflater;
+  private final CRC32 crc = new CRC32();
+  /** The number of uncompressed bytes, modulo 2**32 as in the trailer. */
+  private int size;
+  private final byte[] buf = new byte[1 << 13];
+  private final ByteBuffer byteBuffer = ByteBuffer.wrap(buf);
+  /** Receives bytes from buffers without an accessible array. */
+  private byte[] copyBuf;
+  private boolean wroteHeader;
+  private long precompressedByteCount;
+
+  /** Compresses at {@link Deflater#DEFAULT_COMPRESSION}. */
+  public GzipChannel(WritableByteChannel out) {
+    this(out, Deflater.DEFAULT_COMPRESSION);
+  }
+
+  /**
+   * @param out receives the gzipped stream.
+   * @param level the {@link Deflater} compression level for dynamic content.
+   *     Constants are compressed at {@link Deflater#BEST_COMPRESSION}.
+   */
+  public GzipChannel(WritableByteChannel out, int level) {
+    this.out = out;
+    this.deflater = new Deflater(level, true);
+  }
+
+  @Override
+  public boolean isOpen() {
+    return out != null;
+  }
+
+  @Override
+  public int write(ByteBuffer src) throws IOException {
+    ensureOpen();
+    int n = src.remaining();
+    byte[] arr;
+    int off;
+    if (src.hasArray()) {
+      arr = src.array();
+      off = src.arrayOffset() + src.position();
+      src.position(src.limit());
+    } else {
+      if (copyBuf == null || copyBuf.length < n) { copyBuf = new byte[n]; }
+      arr = copyBuf;
+      off = 0;
+      src.get(arr, 0, n);
+    }
+    crc.update(arr, off, n);
+    size += n;
+    deflater.setInput(arr, off, n);
+    while (!deflater.needsInput()) {
+      deflate(Deflater.NO_FLUSH);
+    }
+    return n;
+  }
+
+  /**
+   * Writes a constant via its shared compressed form.
+   *
+   * @return the constant's UTF-8 bytes.
+   */
+  byte[] writePrecompressed(String s) throws IOException {
+    ensureOpen();
+    Precompressed p = PRECOMPRESSED.getIfPresent(s);
+    if (p == null) {
+      p = precompress(s);
+      PRECOMPRESSED.put(s, p);
+    }
+    deflate(Deflater.FULL_FLUSH);
+    writeOut(p.deflated, p.deflated.length);
+    crc.update(p.raw, 0, p.raw.length);
+    size += p.raw.length;
+    precompressedByteCount += p.raw.length;
+    return p.raw;
+  }
+
+  private static Precompressed precompress(String s) {
+    byte[] raw = s.getBytes(StandardCharsets.UTF_8);
+    Deflater d = new Deflater(Deflater.BEST_COMPRESSION, true);
+    try {
+      d.setInput(raw);
+      byte[] deflated = new byte[raw.length / 2 + 64];
+      int n = 0;
+      while (true) {
+        n += d.deflate(deflated, n, deflated.length - n, Deflater.FULL_FLUSH);
+        if (n < deflated.length) { break; }
+        byte[] bigger = new byte[deflated.length * 2];
+        System.arraycopy(deflated, 0, bigger, 0, n);
+        deflated = bigger;
+      }
+      byte[] trimmed = new byte[n];
+      System.arraycopy(deflated, 0, trimmed, 0, n);
+      return new Precompressed(raw, trimmed);
+    } finally {
+      d.end();
+    }
+  }
+
+  /** The number of uncompressed bytes written via shared compressed forms. */
+  public long getPrecompressedByteCount() {
+    return precompressedByteCount;
+  }
+
+  /** Finishes the gzip stream and closes the underlying channel. */
+  @Override
+  public void close() throws IOException {
+    if (out == null) { return; }
+    try {
+      deflater.finish();
+      while (!deflater.finished()) {
+        deflate(Deflater.NO_FLUSH);
+      }
+      int crcValue = (int) crc.getValue();
+      byte[] trailer = {
+        (byte) crcValue, (byte) (crcValue >>> 8),
+        (byte) (crcValue >>> 16), (byte) (crcValue >>> 24),
+        (byte) size, (byte) (size >>> 8),
+        (byte) (size >>> 16), (byte) (size >>> 24),
+      };
+      writeOut(trailer, trailer.length);
+      out.close();
+    } finally {
+      deflater.end();
+      out = null;
+    }
+  }
+
+  private void ensureOpen() throws IOException {
+    if (out == null) { throw new ClosedChannelException(); }
+  }
+
+  /** Writes compressed output until the deflater needs more. */
+  private void deflate(int flush) throws IOException {
+    int k;
+    do {
+      k = deflater.deflate(buf, 0, buf.length, flush);
+      if (k != 0) {
+        writeOut(buf, k);
+      }
+    } while (k == buf.length);
+  }
+
+  private void writeOut(byte[] bytes, int n) throws IOException {
+    if (!wroteHeader) {
+      wroteHeader = true;
+      writeOut(HEADER, HEADER.length);
+    }
+    ByteBuffer bb = bytes == buf ? byteBuffer : ByteBuffer.wrap(bytes);
+    bb.clear();
+    bb.limit(n);
+    while (bb.hasRemaining()) {
+      out.write(bb);
+    }
+  }
+}
@@ -25,13 +25,22 @@ package com.google.autoesc;
 
 import java.io.FilterWriter;
 import java.io.IOException;
+import java.io.Reader;
 import java.io.Writer;
+import java.util.Arrays;
+import java.util.BitSet;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Throwables;
+import com.google.common.io.CharSource;
+import com.google.common.io.CharStreams;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 
 import static com.google.autoesc.Context.attr;
 import static com.google.autoesc.Context.delim;
@@ -80,15 +89,55 @@ public class HTMLEscapingWriter extends Writer {
    * True if in soft escaping mode.  @see #isSoft
    */
   private boolean soft;
+  /**
+   * The schemes that untrusted URLs may use.  @see #getSchemeAllowlist
+   */
+  private SchemeAllowlist schemes = SchemeAllowlist.DEFAULT;
   /**
    * Used to buffer unsafe content written via write(int).
+   * @see #write(int)
    */
-  private StringBuilder unsafeBuffered = new StringBuilder();
+  private char[] unsafeBuffered = new char[UNSAFE_BUFFER_SIZE];
+  /** The number of chars at the start of unsafeBuffered that are in use. */
+  private int nUnsafeBuffered;
+  /**
+   * Receives entity-decoded attribute content so that it can be run through
+   * the state machine.
+   */
+  private char[] unescapeBuffer;
+
+  /**
+   * The context in which the document started.  Besides the text context,
+   * the document may end in this context.
+   */
+  private int startContext;
+
+  /**
+   * Content written after the first unfilled {@link Hole}, or null if no hole
+   * has been reserved.  @see #defer
+   */
+  private @Nullable DeferredContent deferred;
 
   /** */
   public HTMLEscapingWriter(Writer out) {
     this.underlying = this.out = out;
-    this.context = Context.TEXT;
+    this.context = this.startContext = Context.TEXT;
+  }
+
+  /**
+   * Returns a writer for an XML document, like a feed or sitemap, that starts
+   * in the XML context instead of deciding the markup language from an
+   * {@code <?xml ...?>} prolog or the top level element, and that may be
+   * closed in the XML context.
+   * <p>
+   * The writer's state does not grow with the document, so to write very
+   * large documents in constant memory, out need only buffer a bounded
+   * amount, as does {@link Utf8ChannelWriter}.
+   */
+  public static HTMLEscapingWriter forXML(Writer out) {
+    HTMLEscapingWriter w = new HTMLEscapingWriter(out);
+    w.context = w.startContext = Context.XML;
+    return w;
   }
 
   /**
@@ -98,11 +147,19 @@ public class HTMLEscapingWriter extends Writer {
    */
   @Override
   public void close() throws IOException, TemplateException {
+    flushUnsafeBuffered();
+    if (deferred != null && deferred.enqueueClose()) { return; }
+    closeNow();
+  }
+
+  /** Closes regardless of unfilled holes. */
+  void closeNow() throws IOException, TemplateException {
     flush();
     out.close();
     int contextBeforeClose = this.context;
     releaseOnClose();
-    if (state(contextBeforeClose) != Context.State.Text) {
+    if (state(contextBeforeClose) != Context.State.Text
+        && contextBeforeClose != startContext) {
       throw new BadEndContextException("Incomplete document fragment ended in "
           + Context.toString(contextBeforeClose));
     }
@@ -114,16 +171,37 @@ public class HTMLEscapingWriter extends Writer {
     this.rtable = null;
     this.htmlEscapingWriterSqOk = htmlEscapingWriterDqOk = null;
     this.unsafeBuffered = null;
+    this.nUnsafeBuffered = 0;
+    this.unescapeBuffer = null;
   }
 
   @Override
   public void flush() throws IOException, TemplateException {
-    if (unsafeBuffered.length() != 0) {
-      String s = unsafeBuffered.toString();
-      unsafeBuffered.setLength(0);
-      write(s);
+    flushUnsafeBuffered();
+    if (deferred != null) {
+      deferred.flush();
+    } else {
+      out.flush();
+    }
+  }
+
+  /**
+   * Writes any content buffered by {@link #write(int)} without flushing the
+   * underlying writer, so that writes do not defeat any buffering done by the
+   * underlying writer.
+   */
+  void flushUnsafeBuffered() throws IOException, TemplateException {
+    int n = nUnsafeBuffered;
+    if (n != 0) {
+      // Cleared first since writeUnsafe flushes.
+      nUnsafeBuffered = 0;
+      writeUnsafe(unsafeBuffered, 0, n);
+      // Do not hold onto a buffer grown for one long value.
+      if (unsafeBuffered != null
+          && unsafeBuffered.length > MAX_RETAINED_UNSAFE_BUFFER_SIZE) {
+        unsafeBuffered = new char[UNSAFE_BUFFER_SIZE];
+      }
     }
-    out.flush();
   }
 
   /**
@@ -150,7 +228,8 @@ public class HTMLEscapingWriter extends Writer {
    */
   public void writeSafe(String s, int offset, int end)
       throws IOException, TemplateException {
-    flush();
+    flushUnsafeBuffered();
+    if (deferred != null && deferred.enqueueSafe(s, offset, end)) { return; }
     for (int off = offset, noff; off < end; off = noff) {
       int oc = context;
       noff = writeChunk(s, off, end);
@@ -162,17 +241,87 @@ public class HTMLEscapingWriter extends Writer {
     }
   }
 
+  /**
+   * Emits content from a trusted source as per {@link #writeSafe(String)}.
+   * This is equivalent to {@code writeSafe(s.toString())} but does not
+   * require copying content held in a mutable buffer.
+   *
+   * @param s content from a trusted source like a trusted template author.
+   */
+  public void writeSafe(CharSequence s)
+      throws IOException, TemplateException {
+    if (s instanceof String) {
+      writeSafe((String) s);
+    } else {
+      try (Reader r = CharSource.wrap(s).openStream()) {
+        writeSafe(r);
+      }
+    }
+  }
+
+  /**
+   * Emits content from a trusted source as per {@link #writeSafe(String)}
+   * but reads it in fixed-size chunks so that large content, like a static
+   * page loaded from disk, need not be held in memory all at once.
+   * <p>
+   * The content is split after line breaks, or failing that after a
+   * {@code '>'}, so that constructs like entities, end tags, and CSS escapes
+   * reach the state machine whole.  A line with neither in 64K chars is
+   * split before any trailing entity or tag name.
+   *
+   * @param r supplies content from a trusted source like a trusted template
+   *     author.  It is read until exhausted, but not closed.
+   */
+  public void writeSafe(Reader r) throws IOException, TemplateException {
+    char[] buf = new char[READ_BUFFER_SIZE];
+    int n = 0;
+    while ((n = fill(r, buf, n)) == buf.length) {
+      int cut = safeChunkEnd(buf, n);
+      if (cut == 0) {
+        if (buf.length < MAX_READ_BUFFER_SIZE) {
+          buf = Arrays.copyOf(buf, buf.length * 2);
+          continue;
+        }
+        // There is no good place to split, so split before any trailing
+        // entity or tag name instead of buffering without bound.
+        cut = partialConstructStart(buf, n);
+        if (cut == 0) { cut = n; }
+      }
+      writeSafe(buf, 0, cut);
+      n -= cut;
+      System.arraycopy(buf, cut, buf, 0, n);
+    }
+    writeSafe(buf, 0, n);
+  }
+
   /**
    * Emits a value from an untrusted source by encoding it in the context
    * of the {@link #writeSafe safe} strings emitted prior.
    * For example, if the prior safe content is {@code <a onclick="alert(}, then
    * a JavaScript value is expected, but if the prior safe content is
    * {@code <a href="/search?q=}, then a URL query parameter is expected.
+   * <p>
+   * A {@link ListenableFuture} is written as its eventual value via a
+   * {@link #defer hole}, so this does not wait for it to complete.
    */
   public void write(@Nullable Object o) throws IOException, TemplateException {
+    flushUnsafeBuffered();
+    if (o instanceof ListenableFuture<?>) {
+      writeFuture((ListenableFuture<?>) o);
+      return;
+    }
+    if (deferred != null && deferred.enqueueUnsafe(o)) { return; }
+    writeUnsafeUnflushed(o);
+  }
+
+  /**
+   * Emits an untrusted value as per {@link #write(Object)} but without first
+   * flushing buffered unsafe content.
+   */
+  void writeUnsafeUnflushed(@Nullable Object o)
+      throws IOException, TemplateException {
     // In code snippets in comments below, $x indicates an unsafe value.
     if ("".equals(o) && ignoreEmptyUnsafe()) { return; }
-    flush();
     try {
       writeUnsafe(o, chooseEscaper());
       this.out = this.underlying;
@@ -185,6 +334,107 @@ public class HTMLEscapingWriter extends Writer {
     }
   }
 
+  /**
+   * Emits a string value from an untrusted source as per
+   * {@link #write(Object)} but reads it in fixed-size chunks so that large
+   * values need not be held in memory all at once.
+   * <p>
+   * Values that have to be vetted as a whole, like URLs that might
+   * have a dangerous protocol, are read in full before being written.
+   *
+   * @param r supplies the untrusted value.  It is read until exhausted, but
+   *     not closed.
+   */
+  public void write(Reader r) throws IOException, TemplateException {
+    char[] buf = new char[READ_BUFFER_SIZE];
+    int n = fill(r, buf, 0);
+    if (n < buf.length) {
+      // The whole value fit in the buffer.
+      writeUnsafe(buf, 0, n);
+      return;
+    }
+    flushUnsafeBuffered();
+    if (deferred != null && deferred.isQueueing()) {
+      // Read the rest now since r may not outlive this call.
+      StringBuilder sb = new StringBuilder(n * 2).append(buf, 0, n);
+      CharStreams.copy(r, sb);
+      write(sb.toString());
+      return;
+    }
+    try {
+      writeUnsafe(r, buf, n, chooseEscaper());
+      this.out = this.underlying;
+    } catch (Throwable th) {
+      // Recovering from a failure to write is problematic since any output
+      // buffer could be in an inconsistent state.
+      // Prevent reuse of this instance on failure to write.
+      releaseOnClose();
+      Throwables.propagateIfPossible(th, IOException.class);
+    }
+  }
+
+  /**
+   * Emits a sequence of trusted and untrusted segments.
+   * This is equivalent to calling {@link #writeSafe(String)} on each part
+   * whose bit is set in safeMask and {@link #write(Object)} on each other part
+   * but flushes once and guards the whole sequence instead of each part.
+   * <p>
+   * Like {@link #write(Object)}, a failure while writing any part prevents
+   * further use of this writer.
+   *
+   * @param parts the segments in output order.  Safe parts are converted to
+   *     strings via {@code toString()}.
+   * @param safeMask bit i is set iff parts[i] is from a trusted source like
+   *     a trusted template author.
+   */
+  public void writeSegments(Object[] parts, BitSet safeMask)
+      throws IOException, TemplateException {
+    flushUnsafeBuffered();
+    int i = 0, n = parts.length;
+    if (deferred == null || !deferred.isQueueing()) {
+      try {
+        for (; i < n; ++i) {
+          Object part = parts[i];
+          if (safeMask.get(i)) {
+            writeSafeUnflushed(part.toString());
+          } else {
+            // A future's hole may need the rest to be queued.
+            if (part instanceof ListenableFuture<?>) { break; }
+            if ("".equals(part) && ignoreEmptyUnsafe()) { continue; }
+            writeUnsafe(part, chooseEscaper());
+            this.out = this.underlying;
+          }
+        }
+      } catch (Throwable th) {
+        // Recovering from a failure to write is problematic since any output
+        // buffer could be in an inconsistent state.
+        // Prevent reuse of this instance on failure to write.
+        releaseOnClose();
+        Throwables.propagateIfPossible(th, IOException.class);
+        return;
+      }
+    }
+    // Parts after an unfilled hole are queued.
+    for (; i < n; ++i) {
+      if (safeMask.get(i)) {
+        writeSafe(parts[i].toString());
+      } else {
+        write(parts[i]);
+      }
+    }
+  }
+
+  /**
+   * Emits trusted content as per {@link #writeSafe(String)} but without
+   * first flushing buffered unsafe content.
+   * Subclasses may override this to reuse the result of earlier writes.
+   */
+  void writeSafeUnflushed(String s) throws IOException, TemplateException {
+    for (int off = 0, end = s.length(); off < end;) {
+      off = writeChunk(s, off, end);
+    }
+  }
+
   /**
    * write writes the untrusted content s[off:off+len] to the underlying buffer
    * escaping as necessary to preserve the security properties of this class.
@@ -212,9 +462,10 @@ public class HTMLEscapingWriter extends Writer {
 
   private void writeUnsafe(String s, int off, int end)
       throws IOException, TemplateException {
+    flushUnsafeBuffered();
+    if (deferred != null && deferred.enqueueUnsafe(s, off, end)) { return; }
     // In code snippets in comments below, $x indicates an unsafe value.
     if (off == end && ignoreEmptyUnsafe()) { return; }
-    flush();
     try {
       writeUnsafe(s, off, end, chooseEscaper());
       this.out = this.underlying;
@@ -227,13 +478,30 @@ public class HTMLEscapingWriter extends Writer {
     }
   }
 
+  /**
+   * Buffers the untrusted code-point i.  Buffered content is escaped
+   * straight from the buffer as one value when trusted content is written,
+   * on {@link #flush}, or on a '/' that follows a long enough prefix.
+   */
   @Override
   public void write(int i) throws IOException, TemplateException {
-    unsafeBuffered.appendCodePoint(i);
+    char[] buf = unsafeBuffered;
+    int n = nUnsafeBuffered;
+    if (n + 2 > buf.length) {
+      // Splitting elsewhere could split a JS value or a URL scheme, or
+      // change the decision of a filter, so grow instead.
+      buf = unsafeBuffered = Arrays.copyOf(buf, buf.length * 2);
+    }
+    if (Character.isBmpCodePoint(i)) {
+      buf[n++] = (char) i;
+    } else {
+      n += Character.toChars(i, buf, n);
+    }
+    nUnsafeBuffered = n;
     // Flush on chunks.  '/' occurs reasonably frequently with tags and
     // will not appear inside a URL protocol where splitting could cause
     // problems.
-    if (unsafeBuffered.length() > 128 && i == '/') { flush(); }
+    if (n > UNSAFE_FLUSH_THRESHOLD && i == '/') { flushUnsafeBuffered(); }
   }
 
   /**
@@ -256,6 +524,103 @@ public class HTMLEscapingWriter extends Writer {
     this.soft = soft;
   }
 
+  /**
+   * getSchemeAllowlist returns the URL schemes that untrusted URLs may use.
+   * An untrusted URL with any other scheme is replaced with an innocuous URL.
+   * Defaults to {@link SchemeAllowlist#DEFAULT}.
+   *
+   * @see #setSchemeAllowlist
+   */
+  public SchemeAllowlist getSchemeAllowlist() { return schemes; }
+
+  /**
+   * setSchemeAllowlist sets the URL schemes returned by
+   * {@link #getSchemeAllowlist}.
+   */
+  public void setSchemeAllowlist(SchemeAllowlist schemes) {
+    this.schemes = schemes;
+  }
+
+  /**
+   * Reserves a hole for an untrusted value that is not available yet, so that
+   * the caller can go on writing content that follows it.
+   * <p>
+   * The hole's value is escaped in the context at this point in the output
+   * once it is {@link Hole#fill filled}.
+   * Content up to the first unfilled hole is written to the underlying writer
+   * as usual, but content after it, including any later holes, is buffered
+   * until it is filled, so the start of a page can be sent while slower
+   * values are being fetched.
+   * <p>
+   * Holes may be filled in any order and from any thread.  A
+   * {@link #close} while holes are unfilled closes the underlying writer
+   * once the last hole is filled.  The writer's settings, like
+   * {@link #setSoft soft mode}, should not be changed while holes are
+   * unfilled.
+   */
+  public Hole defer() throws IOException, TemplateException {
+    flushUnsafeBuffered();
+    if (deferred == null) { deferred = new DeferredContent(this); }
+    return deferred.defer();
+  }
+
+  /**
+   * Reserves a hole for a sequence of untrusted values that arrive over time,
+   * like the items of a reactive stream.  The values are escaped one after
+   * another in the context at this point in the output as described at
+   * {@link StreamHole}, and content after the hole is buffered as by
+   * {@link #defer} until the stream {@link StreamHole#end ends}.
+   */
+  public StreamHole deferStream() throws IOException, TemplateException {
+    flushUnsafeBuffered();
+    if (deferred == null) { deferred = new DeferredContent(this); }
+    return deferred.deferStream();
+  }
+
+  /**
+   * Writes the eventual value of a future into a {@link #defer hole} so that
+   * the caller need not wait for it.
+   * If the future fails, the writer is abandoned as by {@link Hole#fail}.
+   */
+  private void writeFuture(ListenableFuture<?> f)
+      throws IOException, TemplateException {
+    final Hole h = defer();
+    Futures.addCallback(
+        f,
+        new FutureCallback<Object>() {
+          @Override
+          public void onSuccess(@Nullable Object value) {
+            try {
+              h.fill(value);
+            } catch (@SuppressWarnings("unused") IOException ex) {
+              // Recorded by the hole and reported to the writer's owner.
+            }
+          }
+
+          @Override
+          public void onFailure(Throwable th) {
+            h.fail(th);
+          }
+        },
+        MoreExecutors.directExecutor());
+  }
+
+  /**
+   * True if content written now is buffered behind an unfilled {@link Hole}
+   * instead of being written to {@link #getWriter}.
+   */
+  boolean isDeferring() throws IOException {
+    return deferred != null && deferred.isQueueing();
+  }
+
+  /**
+   * Buffers trusted content behind an unfilled {@link Hole} if there is one.
+   * @return true if buffered, false if the caller should write s itself.
+   */
+  boolean deferSafe(String s) throws IOException {
+    return deferred != null && deferred.enqueueSafe(s, 0, s.length());
+  }
+
   /** @return a {@link Context}. */
   int getContext() {
     assert context != INVALID_CONTEXT_CLOSED : "closed";
@@ -302,7 +667,7 @@ public class HTMLEscapingWriter extends Writer {
       break;
     case FILTER_CSS_URL:
     case FILTER_URL:
-      String s = URL.filterURL(o);
+      String s = URL.filterURL(o, schemes);
       int i = 0, n = s.length();
       for (int cp; i < n; i += Character.charCount(cp)) {
         cp = s.codePointAt(i);
@@ -358,7 +723,7 @@ public class HTMLEscapingWriter extends Writer {
       break;
     case FILTER_CSS_URL:
     case FILTER_URL:
-      if (!URL.urlPrefixAllowed(s, off, end)) {
+      if (!schemes.isAllowed(s, off, end)) {
         out.write(URL.FILTER_REPLACEMENT_URL);
         context = Context.urlPart(context, Context.URLPart.QueryOrFrag);
         return;
@@ -387,7 +752,131 @@ public class HTMLEscapingWriter extends Writer {
     }
   }
 
-  private boolean ignoreEmptyUnsafe() {
+  /**
+   * writeUnsafe writes the buffered prefix, buf[0:n], of an unsafe value
+   * followed by the rest of the value read from r.
+   */
+  private void writeUnsafe(Reader r, char[] buf, int n0, Escaper esc)
+      throws IOException, TemplateException {
+    switch (esc) {
+    case ELIDE: case ONE_SPACE:
+      writeUnsafe(buf, 0, n0, esc);
+      return;
+    case FILTER_CSS_URL: case FILTER_CSS_VALUE: case FILTER_NAME_ONTO:
+    case FILTER_URL:
+      // Filters need to see the whole value to decide whether it is safe.
+      StringBuilder sb = new StringBuilder(n0 * 2).append(buf, 0, n0);
+      for (int nRead; (nRead = r.read(buf)) >= 0;) {
+        sb.append(buf, 0, nRead);
+      }
+      String s = sb.toString();
+      writeUnsafe(s, 0, s.length(), esc);
+      return;
+    case ESCAPE_JS_VALUE:
+      // A string value is a quoted JS string.
+      out.write('\'');
+      writeUnsafe(r, buf, n0, Escaper.ESCAPE_JS_STRING);
+      out.write('\'');
+      return;
+    case ESCAPE_CDATA:
+      // Carry the state across chunks so that a "]]>" split across chunks is
+      // caught, and CDATA sections are only split where needed.
+      int state = XML.CDATA_START;
+      for (int n = n0; n != 0; n = fill(r, buf, 0)) {
+        state = XML.escapeCDATAChunkOnto(buf, 0, n, state, out);
+      }
+      XML.endCDATAOnto(state, out);
+      return;
+    default:
+      break;
+    }
+    int n = n0;
+    while ((n = fill(r, buf, n)) == buf.length) {
+      int cut = unsafeChunkEnd(buf, n);
+      if (cut == 0) { cut = n; }
+      writeUnsafe(buf, 0, cut, esc);
+      n -= cut;
+      System.arraycopy(buf, cut, buf, 0, n);
+    }
+    if (n != 0) { writeUnsafe(buf, 0, n, esc); }
+  }
+
+  /** Reads from r into buf[off:] until buf is full or r is exhausted. */
+  private static int fill(Reader r, char[] buf, int off) throws IOException {
+    int n = off;
+    for (int nRead; n < buf.length
+         && (nRead = r.read(buf, n, buf.length - n)) >= 0;) {
+      n += nRead;
+    }
+    return n;
+  }
+
+  /**
+   * The end of the longest prefix of trusted content in s[0:n] that ends
+   * after a line break or {@code '>'}, or 0 if there is none.
+   */
+  private static int safeChunkEnd(char[] s, int n) {
+    int gt = 0;
+    for (int i = n; --i >= 0;) {
+      char ch = s[i];
+      if (ch == '\n') { return i + 1; }
+      if (ch == '>' && gt == 0) { gt = i + 1; }
+    }
+    return gt;
+  }
+
+  /**
+   * The start of a trailing entity, like {@code &#34}, tag name, like
+   * {@code </script}, or run of comment delimiter or escape chars, like
+   * {@code *} or {@code \\}, or short block comment in s[0:n] that content
+   * after s[n] might continue, or n if there is none.
+   */
+  private static int partialConstructStart(char[] s, int n) {
+    int start = n;
+    int lim = Math.max(n - MAX_PARTIAL_CONSTRUCT_LENGTH, 0);
+    // Keep comment delimiters like "*/" and "-->", and escapes, whole.
+    for (int i = n; --i >= lim;) {
+      char ch = s[i];
+      if (ch != '/' && ch != '*' && ch != '-' && ch != '\\') { break; }
+      start = i;
+    }
+    // Keep a short block comment whole since each piece of one is elided
+    // to a space.
+    for (int i = start - 1; --i >= lim;) {
+      if (s[i] == '*' && s[i + 1] == '/') { break; }
+      if (s[i] == '/' && s[i + 1] == '*') {
+        start = i;
+        break;
+      }
+    }
+    for (int i = n; --i >= lim;) {
+      char ch = s[i];
+      if (ch == '&' || ch == '<') {
+        start = i;
+      } else if (!(('a' <= ch && ch <= 'z') || ('A' <= ch && ch <= 'Z')
+                   || ('0' <= ch && ch <= '9')
+                   || ch == '#' || ch == '/' || ch == '!' || ch == '-')) {
+        break;
+      }
+    }
+    return start;
+  }
+
+  /**
+   * The end of the longest prefix of untrusted content in s[0:n] that does
+   * not split a surrogate pair or a URL %-escape.
+   */
+  private static int unsafeChunkEnd(char[] s, int n) {
+    int end = n;
+    while (end != 0
+           && (Character.isHighSurrogate(s[end - 1]) || s[end - 1] == '%'
+               || (end >= 2 && s[end - 2] == '%'))) {
+      --end;
+    }
+    return end;
+  }
+
+  boolean ignoreEmptyUnsafe() {
     // Normally, emitting the empty string should cause no nudge below, but
     // in some contexts, the empty output is important.
     switch (state(context)) {
@@ -415,27 +904,7 @@ public class HTMLEscapingWriter extends Writer {
    */
   private Escaper chooseEscaper() throws IOException, TemplateException {
     context = nudge(context, out);
-    // Wrap out to escape attribute content.  This allows us to handle
-    // JS/CSS content below the same regardless of whether it's in a <script>
-    // or <a onclick="...">.
-    switch (delim(context)) {
-      case Context.Delim.None: break;
-      case Context.Delim.SingleQuote:
-        if (htmlEscapingWriterDqOk == null) {
-          htmlEscapingWriterDqOk = new EscapingWriter(out, HTML_DQ_OK);
-        }
-        out = htmlEscapingWriterDqOk;
-        break;
-      case Context.Delim.DoubleQuote:
-      // We insert double quotes around quoteless attributes so treat as
-      // double quoted here.
-      case Context.Delim.SpaceOrTagEnd:
-        if (htmlEscapingWriterSqOk == null) {
-          htmlEscapingWriterSqOk = new EscapingWriter(out, HTML_SQ_OK);
-        }
-        out = this.htmlEscapingWriterSqOk;
-        break;
-    }
+    wrapOutForDelim();
     // Choose an escaper appropriate to the context.
     switch (state(context)) {
       case Context.State.URL:
@@ -524,6 +993,32 @@ public class HTMLEscapingWriter extends Writer {
     }
   }
 
+  /**
+   * Wrap out to escape attribute content.  This allows us to handle
+   * JS/CSS content the same regardless of whether it's in a {@code <script>}
+   * or {@code <a onclick="...">}.
+   */
+  private void wrapOutForDelim() {
+    switch (delim(context)) {
+      case Context.Delim.None: break;
+      case Context.Delim.SingleQuote:
+        if (htmlEscapingWriterDqOk == null) {
+          htmlEscapingWriterDqOk = new EscapingWriter(out, HTML_DQ_OK);
+        }
+        out = htmlEscapingWriterDqOk;
+        break;
+      case Context.Delim.DoubleQuote:
+      // We insert double quotes around quoteless attributes so treat as
+      // double quoted here.
+      case Context.Delim.SpaceOrTagEnd:
+        if (htmlEscapingWriterSqOk == null) {
+          htmlEscapingWriterSqOk = new EscapingWriter(out, HTML_SQ_OK);
+        }
+        out = this.htmlEscapingWriterSqOk;
+        break;
+    }
+  }
+
   private ReplacementTable attrValueEscaper() {
     switch (delim(context)) {
     case Context.Delim.None:
@@ -631,10 +1126,15 @@ public class HTMLEscapingWriter extends Writer {
     }
 
     {
-      String u = HTML.maybeUnescape(s, off, contentEnd);
-      if (u != null) {
+      if (CharsUtil.indexOf(s, off, contentEnd, '&') >= 0) {
+        int len = contentEnd - off;
+        if (unescapeBuffer == null || unescapeBuffer.length < len) {
+          unescapeBuffer = new char[Math.max(len, UNESCAPE_BUFFER_SIZE)];
+        }
+        // Decode into a buffer reused across calls instead of a new string.
+        char[] u = unescapeBuffer;
         int offu = 0;
-        int endu = u.length();
+        int endu = HTML.unescapeOnto(s, off, contentEnd, u);
         while (offu < endu) {
           offu = transition(u, offu, endu);
         }
@@ -1313,7 +1813,7 @@ public class HTMLEscapingWriter extends Writer {
     char replacement = ' ';
     for (int i = off; i < end; ++i) {
       char ch = s.charAt(i);
-      if (ch == '*' && i+1 <= end && s.charAt(i+1) == '/') {
+      if (ch == '*' && i+1 < end && s.charAt(i+1) == '/') {
         context = state(context, isJS ? Context.State.JS : Context.State.CSS);
         // Do not emit.
         out.write(replacement);
@@ -1775,6 +2275,21 @@ public class HTMLEscapingWriter extends Writer {
     @Override public void write(int c) { /* no-op */ }
   };
 
+  /**
+   * Writes constant content, like a normalized template literal or a cached
+   * fragment, that is likely to be written by other requests too, so that
+   * sinks can reference it, or share its encoded form, instead of copying.
+   */
+  static void writeConstant(Writer out, String s) throws IOException {
+    if (out instanceof SegmentWriter) {
+      ((SegmentWriter) out).writeConstant(s);
+    } else if (out instanceof Utf8ChannelWriter) {
+      ((Utf8ChannelWriter) out).writeConstant(s);
+    } else {
+      out.write(s);
+    }
+  }
+
   // Privileged accessors for the memoizing writer.
   void setContextAndRtable(int context, ReplacementTable rtable) {
     this.context = context;
@@ -1784,6 +2299,128 @@ public class HTMLEscapingWriter extends Writer {
   ReplacementTable getRtable() { return rtable; }
   void replaceWriter(Writer newOut) { this.out = newOut; }
 
+  // Privileged accessors for the row renderer.
+  /**
+   * Nudges the context and chooses an escaper as {@link #write(Object)} would
+   * but without writing a value.
+   */
+  Escaper prepareUnsafe() throws IOException, TemplateException {
+    Escaper esc = chooseEscaper();
+    this.out = this.underlying;
+    return esc;
+  }
+
+  /**
+   * Writes an unsafe value using an escaper chosen by {@link #prepareUnsafe}.
+   *
+   * @param preparedContext the context after {@link #prepareUnsafe}.
+   */
+  void writePrepared(@Nullable Object o, Escaper esc, int preparedContext)
+      throws IOException, TemplateException {
+    this.context = preparedContext;
+    try {
+      wrapOutForDelim();
+      writeUnsafe(o, esc);
+      this.out = this.underlying;
+    } catch (Throwable th) {
+      // Recovering from a failure to write is problematic since any output
+      // buffer could be in an inconsistent state.
+      // Prevent reuse of this instance on failure to write.
+      releaseOnClose();
+      Throwables.propagateIfPossible(th, IOException.class);
+    }
+  }
+
+  /**
+   * An upper bound on the length of the output of
+   * {@link #writePrepared writing} a string of len chars via esc in
+   * preparedContext, or -1 if esc has no cheap bound, e.g. because it
+   * marshals values or substitutes a replacement.
+   */
+  static long maxEscapedLength(Escaper esc, int preparedContext, int len) {
+    long n;
+    switch (esc) {
+    case ELIDE: return 0;
+    case ONE_SPACE: return 1;
+    case ESCAPE_HTML_ATTR:
+      // Written directly to the underlying writer.
+      return HTML.REPLACEMENT_TABLE.maxEscapedLength(len);
+    case ESCAPE_CSS: n = CSS.maxEscapedStrLength(len); break;
+    case ESCAPE_HTML: case ESCAPE_RCDATA:
+      n = HTML.REPLACEMENT_TABLE.maxEscapedLength(len);
+      break;
+    case NORMALIZE_HTML:
+      n = HTML.NORM_REPLACEMENT_TABLE.maxEscapedLength(len);
+      break;
+    case ESCAPE_XML: n = XML.REPLACEMENT_TABLE.maxEscapedLength(len); break;
+    case NORMALIZE_XML:
+      n = XML.NORM_REPLACEMENT_TABLE.maxEscapedLength(len);
+      break;
+    case ESCAPE_JS_REGEXP: n = JS.maxEscapedRegexpLength(len); break;
+    case ESCAPE_JS_STRING:
+      n = JS.STR_REPLACEMENT_TABLE.maxEscapedLength(len);
+      break;
+    case ESCAPE_URL: case NORMALIZE_URL: n = URL.maxEscapedLength(len); break;
+    default: return -1;
+    }
+    if (delim(preparedContext) != Context.Delim.None) {
+      // Output is HTML escaped for the attribute by wrapOutForDelim.
+      n *= HTML.REPLACEMENT_TABLE.maxExpansion();
+    }
+    return n;
+  }
+
+  // Privileged accessors for stream holes.
+  /**
+   * Writes o as an element of a JS array whose start was chosen by
+   * {@link #prepareUnsafe}.
+   *
+   * @param preparedContext the context after {@link #prepareUnsafe}.
+   * @param first true if o is the first element.
+   */
+  void writePreparedJSElement(
+      @Nullable Object o, int preparedContext, boolean first)
+      throws IOException, TemplateException {
+    this.context = preparedContext;
+    try {
+      wrapOutForDelim();
+      out.write(first ? '[' : ',');
+      JS.escapeElementOnto(o, out);
+      this.out = this.underlying;
+    } catch (Throwable th) {
+      // Recovering from a failure to write is problematic since any output
+      // buffer could be in an inconsistent state.
+      // Prevent reuse of this instance on failure to write.
+      releaseOnClose();
+      Throwables.propagateIfPossible(th, IOException.class);
+    }
+  }
+
+  /** Initial size of the buffer used to hold unsafe content. */
+  private static final int UNSAFE_BUFFER_SIZE = 1024;
+  /** A larger buffer is replaced once flushed. */
+  private static final int MAX_RETAINED_UNSAFE_BUFFER_SIZE
+      = 4 * UNSAFE_BUFFER_SIZE;
+  /** Buffered unsafe content longer than this is flushed on a '/'. */
+  private static final int UNSAFE_FLUSH_THRESHOLD = 128;
+
+  /** Minimum size of the buffer used to decode attribute content. */
+  private static final int UNESCAPE_BUFFER_SIZE = 256;
+
+  /** Size of the buffer used to read content from a {@link Reader}. */
+  private static final int READ_BUFFER_SIZE = 4096;
+  /**
+   * Bound on the growth of the buffer used to read trusted content that
+   * has no line breaks or tag ends.
+   */
+  private static final int MAX_READ_BUFFER_SIZE = 1 << 16;
+  /**
+   * Bound on the length of an entity, like
+   * "&CounterClockwiseContourIntegral;", or of an end tag that is kept whole
+   * when trusted content has to be split at an arbitrary point.
+   */
+  private static final int MAX_PARTIAL_CONSTRUCT_LENGTH = 40;
+
   private static final int INVALID_CONTEXT_CLOSED = -1;
 }
 """  # Fix emacs syntax highlighting "
@@ -0,0 +1,81 @@
+// Copyright (C) 2026 Google Inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.autoesc;
+
+import java.io.IOException;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A placeholder for an untrusted value that is not yet available, reserved
+ * via {@link HTMLEscapingWriter#defer}.
+ * <p>
+ * The value is escaped in the context of the hole, exactly as if it had been
+ * passed to {@link HTMLEscapingWriter#write(Object)} at the time the hole was
+ * reserved.
+ */
+@ThreadSafe
+public final class Hole {
+  private final DeferredContent owner;
+  /** True once a value has been supplied.  Guarded by owner's lock. */
+  boolean filled;
+  /** The value once filled and until written.  Guarded by owner's lock. */
+  @Nullable Object value;
+
+  /** An unfilled hole. */
+  Hole(DeferredContent owner) {
+    this.owner = owner;
+  }
+
+  /** A filled hole used to queue a value written after an unfilled hole. */
+  Hole(DeferredContent owner, @Nullable Object value) {
+    this.owner = owner;
+    this.filled = true;
+    this.value = value;
+  }
+
+  /**
+   * Supplies the untrusted value for this hole.  This may be called from any
+   * thread.
+   * <p>
+   * If this is the first unfilled hole in its writer, then the value and any
+   * content written after it, up to the next unfilled hole, are written to
+   * the underlying writer before this returns.
+   * Errors raised while writing that content, including any raised by a
+   * {@link HTMLEscapingWriter#close close} that was waiting for this hole,
+   * are thrown here.
+   *
+   * @throws IllegalStateException if the hole was already filled.
+   */
+  public void fill(@Nullable Object value)
+      throws IOException, TemplateException {
+    owner.fill(this, value);
+  }
+
+  /**
+   * Abandons the writer, as when the value could not be computed.  No further
+   * content is written, and later writes, flushes, and closes of the writer
+   * throw an {@link IOException} whose cause is th.
+   */
+  public void fail(Throwable th) {
+    owner.fail(th);
+  }
+
+  /** True if {@link #fill} has been called. */
+  public boolean isFilled() {
+    return owner.isFilled(this);
+  }
+}
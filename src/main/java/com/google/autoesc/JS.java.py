@@ -29,7 +29,6 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.GregorianCalendar;
@@ -38,6 +37,7 @@ import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -242,6 +242,11 @@ class JS {
         protected void writeEmpty(Writer out) throws IOException {
           out.write("(?:)");
         }
+
+        @Override
+        long maxEscapedLength(int len) {
+          return len == 0 ? "(?:)".length() : super.maxEscapedLength(len);
+        }
       }
       .add('{', "\\{")
       .add('|', "\\|")
@@ -279,11 +284,28 @@ class JS {
     REGEX_REPLACEMENT_TABLE.escapeOnto(s, off, end, out);
   }
 
+  /**
+   * An upper bound on the length of escapeRegexpOnto's output for len chars.
+   */
+  static long maxEscapedRegexpLength(int len) {
+    return REGEX_REPLACEMENT_TABLE.maxEscapedLength(len);
+  }
+
   static void escapeValueOnto(@Nullable Object o, Writer out)
       throws IOException {
     new JSValueEscaper(out).escape(o, true);
   }
 
+  /**
+   * Escapes o as an element of a JS array.  Unlike {@link #escapeValueOnto},
+   * keywords and numbers are not padded with spaces since the surrounding
+   * punctuation keeps them from merging with adjacent tokens.
+   */
+  static void escapeElementOnto(@Nullable Object o, Writer out)
+      throws IOException {
+    new JSValueEscaper(out).escape(o, false);
+  }
+
   static void escapeValueOnto(String s, int off, int end, Writer out)
       throws IOException {
     out.write('\'');
@@ -531,9 +553,12 @@ class ClassSchema {
   final String[] getterFieldNames;
 
   private static final ClassSchema NOT_A_BEAN = new ClassSchema();
+  /**
+   * Classes compare by identity so a concurrent map serves, and reads of it do
+   * not lock.
+   */
   private static final Map<Class<?>, ClassSchema> CLASS_TO_SCHEMA
-      = Collections.synchronizedMap(
-          new IdentityHashMap<Class<?>, ClassSchema>());
+      = new ConcurrentHashMap<>();
   static {
     CLASS_TO_SCHEMA.put(Class.class, NOT_A_BEAN);
     try {
@@ -38,6 +38,11 @@ public class MemoizingHTMLEscapingWriter extends HTMLEscapingWriter {
   // TODO: profile the two cache implementations and decide which one stays.
   private final Map<MemoTuple, MemoTuple> memoTable = USE_GLOBAL_CACHE
       ? null : new HashMap<MemoTuple, MemoTuple>();
+  /**
+   * Receives normalized content on a miss.  Reused so that misses do not
+   * each allocate and grow a buffer.
+   */
+  private StringWriter normalizedBuffer;
   private static final LoadingCache<MemoTuple, MemoTuple> MEMO_TABLE;
   static {
     MEMO_TABLE = USE_GLOBAL_CACHE ?
@@ -97,11 +102,18 @@ public class MemoizingHTMLEscapingWriter extends HTMLEscapingWriter {
   @Override
   public void writeSafe(String safeContent)
       throws IOException, TemplateException {
+    if (deferSafe(safeContent)) { return; }
+    writeSafeUnflushed(safeContent);
+  }
+
+  @Override
+  void writeSafeUnflushed(String safeContent)
+      throws IOException, TemplateException {
     MemoTuple key = new MemoTuple(getContext(), safeContent, getRtable());
     if (USE_GLOBAL_CACHE) {
       try {
         MemoTuple value = MEMO_TABLE.get(key);
-        getWriter().write(value.safeContent);
+        writeConstant(getWriter(), value.safeContent);
         setContextAndRtable(value.context, value.rtable);
       } catch (ExecutionException ex) {
         Throwables.propagateIfPossible(
@@ -111,18 +123,22 @@ public class MemoizingHTMLEscapingWriter extends HTMLEscapingWriter {
     } else {
       MemoTuple value = memoTable.get(key);
       if (value == null) {
-        StringWriter normalizedSafeContent = new StringWriter(
-            safeContent.length() + 16);
+        if (normalizedBuffer == null) {
+          normalizedBuffer = new StringWriter(
+              Math.max(256, safeContent.length() + 16));
+        } else {
+          normalizedBuffer.getBuffer().setLength(0);
+        }
         @SuppressWarnings("resource")  // Not allocated here
         Writer oout = getWriter();
-        replaceWriter(normalizedSafeContent);
-        super.writeSafe(safeContent);
+        replaceWriter(normalizedBuffer);
+        super.writeSafeUnflushed(safeContent);
         replaceWriter(oout);
         value = new MemoTuple(
-            getContext(), normalizedSafeContent.toString(), getRtable());
+            getContext(), normalizedBuffer.toString(), getRtable());
         memoTable.put(key, value);
       }
-      getWriter().write(value.safeContent);
+      writeConstant(getWriter(), value.safeContent);
       setContextAndRtable(value.context, value.rtable);
     }
   }
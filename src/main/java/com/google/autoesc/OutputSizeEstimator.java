@@ -0,0 +1,139 @@
+// Copyright (C) 2026 Google Inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.autoesc;
+
+import java.io.StringWriter;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Tracks the sizes of a template's output so that buffers for later
+ * outputs can be allocated at about the right size instead of growing and
+ * copying as they fill.
+ * <p>
+ * Sizes are counted in a histogram whose buckets are at most 25% wide, and
+ * counts are halved every {@link #DECAY_INTERVAL} records so that the
+ * estimate follows changes in the output.
+ * <p>
+ * Typical use is
+ * <pre>
+ * StringWriter buf = pageSizes.newStringWriter();
+ * ... render onto buf ...
+ * pageSizes.record(buf.getBuffer().length());
+ * </pre>
+ */
+@ThreadSafe
+public final class OutputSizeEstimator {
+  /** The number of records after which counts are halved. */
+  public static final int DECAY_INTERVAL = 1 << 12;
+
+  /** Each power of two is split into 2**SUB_BUCKET_BITS buckets. */
+  private static final int SUB_BUCKET_BITS = 2;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int N_BUCKETS = 64 << SUB_BUCKET_BITS;
+
+  private final int defaultSize;
+  private final double quantile;
+  private final AtomicLongArray counts = new AtomicLongArray(N_BUCKETS);
+  private final AtomicLong nRecords = new AtomicLong();
+
+  /**
+   * Estimates the size that 90% of outputs fit in.
+   *
+   * @param defaultSize the estimate before any sizes are recorded.
+   */
+  public OutputSizeEstimator(int defaultSize) {
+    this(defaultSize, 0.9);
+  }
+
+  /**
+   * @param defaultSize the estimate before any sizes are recorded.
+   * @param quantile in (0, 1].  The fraction of outputs that should fit in
+   *     the estimate.
+   */
+  public OutputSizeEstimator(int defaultSize, double quantile) {
+    if (defaultSize < 0 || !(quantile > 0 && quantile <= 1)) {
+      throw new IllegalArgumentException(
+          "defaultSize=" + defaultSize + ", quantile=" + quantile);
+    }
+    this.defaultSize = defaultSize;
+    this.quantile = quantile;
+  }
+
+  /** Records the size of an output. */
+  public void record(long size) {
+    if (size < 0) { throw new IllegalArgumentException("size=" + size); }
+    counts.incrementAndGet(bucket(size));
+    if (nRecords.incrementAndGet() % DECAY_INTERVAL == 0) {
+      for (int i = 0; i < N_BUCKETS; ++i) {
+        long n = counts.get(i);
+        if (n != 0) { counts.addAndGet(i, -(n >> 1)); }
+      }
+    }
+  }
+
+  /** The number of sizes recorded. */
+  public long getRecordCount() {
+    return nRecords.get();
+  }
+
+  /**
+   * A size that the chosen fraction of recently recorded outputs fit in, or
+   * the default size if none have been recorded.
+   */
+  public int estimatedOutputSize() {
+    long total = 0;
+    long[] snapshot = new long[N_BUCKETS];
+    for (int i = 0; i < N_BUCKETS; ++i) {
+      total += snapshot[i] = counts.get(i);
+    }
+    if (total == 0) { return defaultSize; }
+    long target = (long) Math.ceil(total * quantile);
+    long cumulative = 0;
+    int i = 0;
+    for (; i < N_BUCKETS - 1; ++i) {
+      cumulative += snapshot[i];
+      if (cumulative >= target) { break; }
+    }
+    // Leave room for array headers as ArrayList does.
+    return (int) Math.min(maxSize(i), Integer.MAX_VALUE - 8);
+  }
+
+  /** A writer whose buffer has the estimated size. */
+  public StringWriter newStringWriter() {
+    return new StringWriter(estimatedOutputSize());
+  }
+
+  /**
+   * Sizes below SUB_BUCKETS get a bucket each.  Larger sizes are bucketed by
+   * their highest set bit and the SUB_BUCKET_BITS bits below it.
+   */
+  static int bucket(long size) {
+    if (size < SUB_BUCKETS) { return (int) size; }
+    int e = 63 - Long.numberOfLeadingZeros(size);
+    int sub = (int) (size >>> (e - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+    return ((e - SUB_BUCKET_BITS + 1) << SUB_BUCKET_BITS) + sub;
+  }
+
+  /** The largest size in the given bucket. */
+  static long maxSize(int bucket) {
+    if (bucket < SUB_BUCKETS) { return bucket; }
+    int e = (bucket >> SUB_BUCKET_BITS) + SUB_BUCKET_BITS - 1;
+    int sub = bucket & (SUB_BUCKETS - 1);
+    return ((SUB_BUCKETS + sub + 1L) << (e - SUB_BUCKET_BITS)) - 1;
+  }
+}
@@ -0,0 +1,334 @@
+// Copyright (C) 2026 Google Inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.autoesc;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import javax.annotation.Nullable;
+
+import com.google.common.base.Throwables;
+
+/**
+ * Renders independent fragments of a large document concurrently and
+ * writes them out in order.
+ * <p>
+ * Each fragment is rendered into its own buffer by its own
+ * {@link HTMLEscapingWriter} which starts in a predicted context: the
+ * context of the destination writer when rendering starts.  This is right
+ * for fragments that are whole elements or runs of text, like the sections
+ * of a report.
+ * When the fragments are written out, the end context of each is checked
+ * against the predicted start context of the next, and any fragment whose
+ * prediction was wrong is rendered again, serially, onto the destination
+ * writer, so output never depends on the prediction.
+ * <p>
+ * A {@link java.util.concurrent.ForkJoinPool} is a good executor for many
+ * small fragments.
+ * <p>
+ * {@link #writeSafe} applies the same approach to one very large chunk of
+ * trusted content, like an inlined bundle or a big static page, by splitting
+ * it into pieces after tags in HTML text.
+ */
+public final class ParallelRenderer {
+  private ParallelRenderer() { /* uninstantiable */ }
+
+  /** Part of a document that can be rendered independently. */
+  public interface Fragment {
+    /**
+     * Writes the fragment's content.  This may be called more than once, and
+     * from a thread other than the one that called
+     * {@link ParallelRenderer#render}, so should not have side-effects beyond
+     * writing to w.
+     */
+    void writeTo(HTMLEscapingWriter w) throws IOException, TemplateException;
+  }
+
+  /**
+   * Writes the fragments to w in order.
+   *
+   * @param executor renders fragments into buffers.
+   */
+  public static void render(
+      HTMLEscapingWriter w, List<? extends Fragment> fragments,
+      ExecutorService executor)
+      throws IOException, TemplateException {
+    if (w.isDeferring()) {
+      // The context is not known until the holes before it are filled.
+      for (Fragment fragment : fragments) {
+        fragment.writeTo(w);
+      }
+      return;
+    }
+    final int context = w.getContext();
+    final ReplacementTable rtable = w.getRtable();
+    final boolean soft = w.isSoft();
+    final SchemeAllowlist schemes = w.getSchemeAllowlist();
+    List<Future<Rendered>> rendered = new ArrayList<>(fragments.size());
+    for (final Fragment fragment : fragments) {
+      rendered.add(executor.submit(new Callable<Rendered>() {
+        @Override
+        public Rendered call() throws IOException, TemplateException {
+          StringWriter buf = new StringWriter();
+          HTMLEscapingWriter fw = new HTMLEscapingWriter(buf);
+          fw.setContextAndRtable(context, rtable);
+          fw.setSoft(soft);
+          fw.setSchemeAllowlist(schemes);
+          fragment.writeTo(fw);
+          if (fw.isDeferring()) {
+            // Wrote a future that has not completed.
+            return null;
+          }
+          fw.flush();
+          return new Rendered(buf.toString(), fw.getContext(), fw.getRtable());
+        }
+      }));
+    }
+    w.flushUnsafeBuffered();
+    @SuppressWarnings("resource")  // Not allocated here
+    Writer out = w.getWriter();
+    for (int i = 0, n = fragments.size(); i < n; ++i) {
+      Future<Rendered> future = rendered.get(i);
+      Rendered r = null;
+      if (w.getContext() == context && w.getRtable() == rtable) {
+        r = get(future);
+      } else {
+        // The previous fragment did not end in the predicted context.
+        future.cancel(false);
+      }
+      if (r != null) {
+        out.write(r.output);
+        w.setContextAndRtable(r.context, r.rtable);
+      } else {
+        fragments.get(i).writeTo(w);
+        if (w.isDeferring()) {
+          // The rest is queued behind a future's hole.
+          for (int j = i + 1; j < n; ++j) {
+            rendered.get(j).cancel(false);
+            fragments.get(j).writeTo(w);
+          }
+          return;
+        }
+        w.flushUnsafeBuffered();
+      }
+    }
+  }
+
+  /** Trusted content shorter than this is written serially by writeSafe. */
+  public static final int MIN_PARALLEL_SAFE_CHARS = 1 << 20;
+  /** The approximate length of the pieces that writeSafe scans. */
+  static final int SAFE_PIECE_CHARS = 1 << 18;
+
+  /**
+   * Writes trusted content to w as {@link HTMLEscapingWriter#writeSafe} does,
+   * scanning pieces of large content concurrently.
+   * <p>
+   * When w is in HTML text, the content is split after a tag near every
+   * {@link #SAFE_PIECE_CHARS} chars, and each piece but the first is
+   * scanned into its own buffer starting in HTML text.  The first piece is
+   * scanned onto w meanwhile.  The end context of each piece is checked
+   * against the predicted start context of the next, and pieces whose
+   * prediction was wrong, e.g. because a {@code '>'} was in an attribute
+   * value, are scanned again, serially, onto w, so output is the same as
+   * writing s serially.  Content that starts elsewhere, like in a script, is
+   * written serially.
+   *
+   * @param executor scans pieces.
+   */
+  public static void writeSafe(
+      HTMLEscapingWriter w, String s, ExecutorService executor)
+      throws IOException, TemplateException {
+    if (s.length() < MIN_PARALLEL_SAFE_CHARS) {
+      w.writeSafe(s);
+      return;
+    }
+    writeSafe(w, s, executor, SAFE_PIECE_CHARS);
+  }
+
+  static void writeSafe(
+      HTMLEscapingWriter w, final String s, ExecutorService executor,
+      int pieceChars)
+      throws IOException, TemplateException {
+    if (w.isDeferring() || w.getContext() != Context.TEXT) {
+      w.writeSafe(s);
+      return;
+    }
+    int n = s.length();
+    List<Integer> bounds = new ArrayList<>();
+    bounds.add(0);
+    for (int i = 0;;) {
+      int end = textTagEnd(s, i, i + pieceChars);
+      if (end < 0 || end == n) { break; }
+      bounds.add(end);
+      i = end;
+    }
+    bounds.add(n);
+    int nPieces = bounds.size() - 1;
+    if (nPieces == 1) {
+      w.writeSafe(s);
+      return;
+    }
+    final int context = Context.TEXT;
+    final ReplacementTable rtable = w.getRtable();
+    final boolean soft = w.isSoft();
+    final SchemeAllowlist schemes = w.getSchemeAllowlist();
+    List<Future<Rendered>> scanned = new ArrayList<>(nPieces - 1);
+    for (int i = 1; i < nPieces; ++i) {
+      final int start = bounds.get(i), end = bounds.get(i + 1);
+      scanned.add(executor.submit(new Callable<Rendered>() {
+        @Override
+        public Rendered call() throws IOException {
+          int len = end - start;
+          StringWriter buf = new StringWriter(len + (len >> 4));
+          HTMLEscapingWriter pw = new HTMLEscapingWriter(buf);
+          pw.setContextAndRtable(context, rtable);
+          pw.setSoft(soft);
+          pw.setSchemeAllowlist(schemes);
+          try {
+            pw.writeSafe(s, start, end);
+          } catch (@SuppressWarnings("unused") TemplateException ex) {
+            // Probably mispredicted.  Scanning serially reports any error.
+            return null;
+          }
+          return new Rendered(buf.toString(), pw.getContext(), pw.getRtable());
+        }
+      }));
+    }
+    try {
+      w.writeSafe(s, 0, bounds.get(1));
+      @SuppressWarnings("resource")  // Not allocated here
+      Writer out = w.getWriter();
+      for (int i = 1; i < nPieces; ++i) {
+        Future<Rendered> future = scanned.get(i - 1);
+        Rendered r = null;
+        if (w.getContext() == context && w.getRtable() == rtable) {
+          r = get(future);
+        } else {
+          future.cancel(false);
+        }
+        if (r != null) {
+          out.write(r.output);
+          w.setContextAndRtable(r.context, r.rtable);
+        } else {
+          w.writeSafe(s, bounds.get(i), bounds.get(i + 1));
+        }
+      }
+    } finally {
+      for (Future<Rendered> future : scanned) {
+        future.cancel(false);
+      }
+    }
+  }
+
+  /** Elements whose bodies may contain a {@code '>'} that is not a tag's. */
+  private static final String[] RAW_TEXT_ELEMENTS = {
+    "script", "style", "textarea", "title",
+  };
+
+  /**
+   * The index after the first tag or comment that ends at or after min,
+   * given that s[from] is in HTML text, or -1 if there is none.
+   * This is a cheap guess that skips the bodies of
+   * {@link #RAW_TEXT_ELEMENTS} but not quoted {@code '>'}s in attributes.
+   */
+  static int textTagEnd(String s, int from, int min) {
+    for (int i = from; (i = s.indexOf('<', i)) >= 0;) {
+      int end;
+      if (s.startsWith("<!--", i)) {
+        end = s.indexOf("-->", i + 4);
+        if (end < 0) { return -1; }
+        end += 3;
+      } else {
+        end = s.indexOf('>', i + 1);
+        if (end < 0) { return -1; }
+        ++end;
+        String element = rawTextElementAt(s, i + 1);
+        if (element != null) {
+          end = endTagEnd(s, element, end);
+          if (end < 0) { return -1; }
+        }
+      }
+      if (end >= min) { return end; }
+      i = end;
+    }
+    return -1;
+  }
+
+  /** The raw text element whose name starts at s[i], or null. */
+  private static @Nullable String rawTextElementAt(String s, int i) {
+    for (String element : RAW_TEXT_ELEMENTS) {
+      int end = i + element.length();
+      if (s.regionMatches(true, i, element, 0, element.length())
+          && end < s.length()) {
+        char ch = s.charAt(end);
+        if (ch == '>' || ch == '/' || Character.isWhitespace(ch)) {
+          return element;
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * The index after the end tag of element at or after from, or -1 if there
+   * is none.
+   */
+  private static int endTagEnd(String s, String element, int from) {
+    for (int i = from; (i = s.indexOf("</", i)) >= 0; i += 2) {
+      if (s.regionMatches(true, i + 2, element, 0, element.length())) {
+        int gt = s.indexOf('>', i + 2 + element.length());
+        return gt < 0 ? -1 : gt + 1;
+      }
+    }
+    return -1;
+  }
+
+  private static Rendered get(Future<Rendered> future)
+      throws IOException, TemplateException {
+    try {
+      return future.get();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      InterruptedIOException iex = new InterruptedIOException();
+      iex.initCause(ex);
+      throw iex;
+    } catch (ExecutionException ex) {
+      Throwable cause = ex.getCause();
+      Throwables.propagateIfPossible(cause, IOException.class);
+      throw Throwables.propagate(cause);
+    }
+  }
+
+  /** The output of rendering a fragment and the context after it. */
+  private static final class Rendered {
+    final String output;
+    final int context;
+    final ReplacementTable rtable;
+
+    Rendered(String output, int context, ReplacementTable rtable) {
+      this.output = output;
+      this.context = context;
+      this.rtable = rtable;
+    }
+  }
+}
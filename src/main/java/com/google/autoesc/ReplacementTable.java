@@ -29,6 +29,8 @@ class ReplacementTable {
   private int[] nonAscii;
   private String[] nonAsciiReplacements;
   private int minNonAscii;
+  /** The longest replacement or 0 if not yet computed. */
+  private int maxExpansion;
 
   ReplacementTable() {
     this.table = new String[0];
@@ -52,6 +54,7 @@ class ReplacementTable {
       table = ntable;
     }
     table[cp] = repl;
+    maxExpansion = 0;
     return this;
   }
 
@@ -61,9 +64,34 @@ class ReplacementTable {
     this.nonAsciiReplacements = replacements.clone();
     this.minNonAscii = codePointsSorted.length != 0
         ? codePointsSorted[0] : Integer.MAX_VALUE;
+    this.maxExpansion = 0;
     return this;
   }
 
+  /**
+   * The most chars written for one char of input, so that buffers can be
+   * reserved before escaping.
+   */
+  int maxExpansion() {
+    int max = maxExpansion;
+    if (max == 0) {
+      max = 1;
+      for (String repl : table) {
+        if (repl != null) { max = Math.max(max, repl.length()); }
+      }
+      for (String repl : nonAsciiReplacements) {
+        max = Math.max(max, repl.length());
+      }
+      maxExpansion = max;
+    }
+    return max;
+  }
+
+  /** An upper bound on the length of the output of escaping len chars. */
+  long maxEscapedLength(int len) {
+    return (long) len * maxExpansion();
+  }
+
   static String toString(@Nullable Object o) {
     if (o == null) {
       return "";
@@ -0,0 +1,261 @@
+// Copyright (C) 2026 Google Inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.autoesc;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import javax.annotation.concurrent.Immutable;
+
+import com.google.common.util.concurrent.ListenableFuture;
+
+/**
+ * Renders rows of a table or list that share a template.
+ * <p>
+ * A row template is a sequence of trusted literals with an untrusted value
+ * between each adjacent pair, and must end in the context in which it
+ * starts.  The literals are normalized and the escaper for each value is
+ * chosen once, when the renderer is created, so rendering a row only copies
+ * literals and runs escapers.
+ * <p>
+ * Some values affect the context after them, e.g. a value at the start of a
+ * URL attribute decides whether the rest of the URL is in the query.
+ * The context after each value is checked and, where it differs from the one
+ * the template was prepared for, the rest of the row is written via
+ * {@link HTMLEscapingWriter#writeSafe} and {@link HTMLEscapingWriter#write},
+ * so output is always the same as writing the row piecemeal.
+ */
+@Immutable
+public final class RowRenderer {
+  private final int context;
+  private final ReplacementTable rtable;
+  private final boolean soft;
+  /** The template literals as given. */
+  private final String[] rawLiterals;
+  /** The normalized literals. */
+  private final String[] literals;
+  /** The context and rtable before each value. */
+  private final int[] holeContexts;
+  private final ReplacementTable[] holeRtables;
+  /** True for values where the empty string is not written. */
+  private final boolean[] ignoreEmpty;
+  /** Content written by nudging the context before each value. */
+  private final String[] nudges;
+  private final Escaper[] escapers;
+  /** The context after nudging and before the value is written. */
+  private final int[] preparedContexts;
+  /** The context after each value assumed by the following literal. */
+  private final int[] afterContexts;
+
+  /**
+   * @param w a writer whose current context is the context in which each row
+   *     starts.
+   * @param literals trusted content.  Rows are the literals with a value
+   *     between each adjacent pair.
+   * @throws TemplateException if the literals do not return to the start
+   *     context.
+   */
+  public RowRenderer(HTMLEscapingWriter w, String... literals)
+      throws TemplateException {
+    if (literals.length == 0) {
+      throw new IllegalArgumentException("no literals");
+    }
+    int nHoles = literals.length - 1;
+    this.context = w.getContext();
+    this.rtable = w.getRtable();
+    this.soft = w.isSoft();
+    this.rawLiterals = literals.clone();
+    this.literals = new String[nHoles + 1];
+    this.holeContexts = new int[nHoles];
+    this.holeRtables = new ReplacementTable[nHoles];
+    this.ignoreEmpty = new boolean[nHoles];
+    this.nudges = new String[nHoles];
+    this.escapers = new Escaper[nHoles];
+    this.preparedContexts = new int[nHoles];
+    this.afterContexts = new int[nHoles];
+
+    StringWriter buf = new StringWriter();
+    HTMLEscapingWriter pw = new HTMLEscapingWriter(buf);
+    pw.setContextAndRtable(context, rtable);
+    pw.setSoft(soft);
+    try {
+      for (int i = 0; i < nHoles; ++i) {
+        pw.writeSafe(rawLiterals[i]);
+        this.literals[i] = drain(buf);
+        holeContexts[i] = pw.getContext();
+        holeRtables[i] = pw.getRtable();
+        ignoreEmpty[i] = pw.ignoreEmptyUnsafe();
+        escapers[i] = pw.prepareUnsafe();
+        nudges[i] = drain(buf);
+        preparedContexts[i] = pw.getContext();
+        // Assume a value that does not end a URL's path or name an attribute
+        // with special content.
+        pw.writePrepared("x", escapers[i], preparedContexts[i]);
+        drain(buf);
+        afterContexts[i] = pw.getContext();
+      }
+      pw.writeSafe(rawLiterals[nHoles]);
+      this.literals[nHoles] = drain(buf);
+    } catch (TemplateException ex) {
+      throw ex;
+    } catch (IOException ex) {
+      throw new AssertionError(ex);  // Writing to an in-memory buffer.
+    }
+    if (pw.getContext() != context || pw.getRtable() != rtable) {
+      throw new TemplateException(
+          "Row template ends in " + Context.toString(pw.getContext())
+          + " instead of its start context " + Context.toString(context));
+    }
+  }
+
+  private static String drain(StringWriter buf) {
+    String s = buf.toString();
+    buf.getBuffer().setLength(0);
+    return s;
+  }
+
+  /** The number of values in a row. */
+  public int getValueCount() { return escapers.length; }
+
+  /**
+   * An upper bound on the number of chars that {@link #writeRow} writes for
+   * values that do not change the context after them, so that a buffer can
+   * be reserved up front.
+   *
+   * @return -1 if a value is not a {@link CharSequence}, or is written by an
+   *     escaper whose output has no cheap bound, like a JS value or a
+   *     filtered URL.
+   */
+  public long maxRowLength(Object... values) {
+    int n = escapers.length;
+    if (values.length != n) {
+      throw new IllegalArgumentException(
+          "Expected " + n + " values, got " + values.length);
+    }
+    long total = literals[n].length();
+    for (int i = 0; i < n; ++i) {
+      if (!(values[i] instanceof CharSequence)) { return -1; }
+      long max = HTMLEscapingWriter.maxEscapedLength(
+          escapers[i], preparedContexts[i],
+          ((CharSequence) values[i]).length());
+      if (max < 0) { return -1; }
+      total += literals[i].length() + nudges[i].length() + max;
+    }
+    return total;
+  }
+
+  /**
+   * Writes a row.
+   *
+   * @param values untrusted values, one per pair of adjacent literals.
+   */
+  public void writeRow(HTMLEscapingWriter w, Object... values)
+      throws IOException, TemplateException {
+    int n = escapers.length;
+    if (values.length != n) {
+      throw new IllegalArgumentException(
+          "Expected " + n + " values, got " + values.length);
+    }
+    if (w.isDeferring()
+        || w.getContext() != context || w.getRtable() != rtable
+        || w.isSoft() != soft) {
+      writeRowPiecemeal(w, values, 0);
+      return;
+    }
+    w.flushUnsafeBuffered();
+    @SuppressWarnings("resource")  // Not allocated here
+    Writer out = w.getWriter();
+    for (int i = 0; i < n; ++i) {
+      Object value = values[i];
+      if (value instanceof ListenableFuture<?>) {
+        // The rest of the row is queued behind the future's hole.
+        writeRowPiecemeal(w, values, i);
+        return;
+      }
+      HTMLEscapingWriter.writeConstant(out, literals[i]);
+      if (ignoreEmpty[i] && "".equals(value)) {
+        w.setContextAndRtable(holeContexts[i], holeRtables[i]);
+      } else {
+        out.write(nudges[i]);
+        w.setContextAndRtable(preparedContexts[i], holeRtables[i]);
+        w.writePrepared(value, escapers[i], preparedContexts[i]);
+      }
+      if (w.getContext() != afterContexts[i]) {
+        writeRowPiecemeal(w, values, i + 1);
+        return;
+      }
+    }
+    HTMLEscapingWriter.writeConstant(out, literals[n]);
+    w.setContextAndRtable(context, rtable);
+  }
+
+  /**
+   * Writes rows in the order given.
+   * Batches of rows are rendered concurrently into separate buffers by the
+   * given executor, and the buffers are written to w in order as by
+   * {@link ParallelRenderer}.
+   *
+   * @param rows each of which is an array of values as passed to
+   *     {@link #writeRow}.
+   * @param batchSize the maximum number of rows rendered by one task.
+   */
+  public void writeRows(
+      HTMLEscapingWriter w, List<? extends Object[]> rows,
+      ExecutorService executor, int batchSize)
+      throws IOException, TemplateException {
+    if (batchSize <= 0) {
+      throw new IllegalArgumentException("batchSize=" + batchSize);
+    }
+    int nRows = rows.size();
+    if (nRows <= batchSize || w.isDeferring()
+        || w.getContext() != context || w.getRtable() != rtable
+        || w.isSoft() != soft) {
+      for (Object[] row : rows) {
+        writeRow(w, row);
+      }
+      return;
+    }
+    List<ParallelRenderer.Fragment> batches = new ArrayList<>();
+    for (int start = 0; start < nRows; start += batchSize) {
+      final List<? extends Object[]> batchRows = rows.subList(
+          start, Math.min(nRows, start + batchSize));
+      batches.add(new ParallelRenderer.Fragment() {
+        @Override
+        public void writeTo(HTMLEscapingWriter bw)
+            throws IOException, TemplateException {
+          for (Object[] row : batchRows) {
+            writeRow(bw, row);
+          }
+        }
+      });
+    }
+    ParallelRenderer.render(w, batches, executor);
+  }
+
+  private void writeRowPiecemeal(
+      HTMLEscapingWriter w, Object[] values, int start)
+      throws IOException, TemplateException {
+    int n = values.length;
+    for (int i = start; i < n; ++i) {
+      w.writeSafe(rawLiterals[i]);
+      w.write(values[i]);
+    }
+    w.writeSafe(rawLiterals[n]);
+  }
+}
@@ -0,0 +1,218 @@
+// Copyright (C) 2026 Google Inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.autoesc;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A UTF-8 encoded file of trusted content, such as a page header or footer,
+ * that is written to many {@link HTMLEscapingWriter}s.
+ * <p>
+ * The file is memory-mapped and the escaper's state machine is run over it
+ * once per start context.  The normalized content and the end context are
+ * cached so that later writes in the same context only copy the content and
+ * set the writer's context.
+ * When the normalized content is identical to the file content, the mapped
+ * bytes are themselves written to byte sinks.
+ * <p>
+ * The file is reloaded when its modification time changes.  Files should be
+ * replaced by renaming a new file over the old one since the content of a
+ * mapping of a file that is rewritten in place is unspecified.
+ */
+@ThreadSafe
+public final class SafeResource {
+  private final Path path;
+  private volatile Content content;
+
+  /** @param path a UTF-8 encoded file of trusted content. */
+  public SafeResource(Path path) {
+    this.path = path;
+  }
+
+  /** The file from which content is read. */
+  public Path getPath() { return path; }
+
+  /**
+   * Writes the resource content to w as by {@link HTMLEscapingWriter#writeSafe}
+   * but using the cached normalized content when available.
+   */
+  public void writeTo(HTMLEscapingWriter w)
+      throws IOException, TemplateException {
+    if (w.isDeferring()) {
+      w.writeSafe(content().text);
+      return;
+    }
+    Rendered r = render(w);
+    w.flushUnsafeBuffered();
+    w.getWriter().write(r.normalized);
+    w.setContextAndRtable(r.context, r.rtable);
+  }
+
+  /**
+   * Writes the resource content as UTF-8 bytes directly to out.
+   * This flushes w before writing so out must be the byte sink that w's
+   * underlying writer encodes onto as UTF-8.
+   * While w has an unfilled {@link Hole}, the content is written via w
+   * instead so that it follows the content buffered behind the hole.
+   *
+   * @param w used to determine the start context and updated with the end
+   *     context.
+   * @param out receives the UTF-8 encoded normalized content.
+   */
+  public void writeTo(HTMLEscapingWriter w, WritableByteChannel out)
+      throws IOException, TemplateException {
+    if (w.isDeferring()) {
+      // out would receive the content ahead of content buffered by w.
+      w.writeSafe(content().text);
+      return;
+    }
+    Rendered r = render(w);
+    w.flush();
+    ByteBuffer bytes = r.bytes.duplicate();
+    while (bytes.hasRemaining()) {
+      out.write(bytes);
+    }
+    w.setContextAndRtable(r.context, r.rtable);
+  }
+
+  private Rendered render(HTMLEscapingWriter w)
+      throws IOException, TemplateException {
+    Content c = content();
+    Key key = new Key(w.getContext(), w.getRtable());
+    Rendered r = c.rendered.get(key);
+    if (r == null) {
+      StringWriter normalizedSafeContent = new StringWriter(
+          c.text.length() + 16);
+      HTMLEscapingWriter nw = new HTMLEscapingWriter(normalizedSafeContent);
+      nw.setContextAndRtable(key.context, key.rtable);
+      nw.writeSafe(c.text);
+      String normalized = normalizedSafeContent.toString();
+      ByteBuffer bytes;
+      if (normalized.equals(c.text)) {
+        bytes = c.mapped.asReadOnlyBuffer();
+      } else {
+        ByteBuffer encoded = StandardCharsets.UTF_8.encode(normalized);
+        bytes = ByteBuffer.allocateDirect(encoded.remaining());
+        bytes.put(encoded);
+        bytes.flip();
+        bytes = bytes.asReadOnlyBuffer();
+      }
+      r = new Rendered(nw.getContext(), nw.getRtable(), normalized, bytes);
+      Rendered prior = c.rendered.putIfAbsent(key, r);
+      if (prior != null) { r = prior; }
+    }
+    return r;
+  }
+
+  private Content content() throws IOException {
+    FileTime mtime = Files.getLastModifiedTime(path);
+    Content c = this.content;
+    if (c == null || !c.mtime.equals(mtime)) {
+      synchronized (this) {
+        c = this.content;
+        if (c == null || !c.mtime.equals(mtime)) {
+          c = load(mtime);
+          this.content = c;
+        }
+      }
+    }
+    return c;
+  }
+
+  private Content load(FileTime mtime) throws IOException {
+    MappedByteBuffer mapped;
+    try (FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) {
+      mapped = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+    }
+    // Malformed input is reported rather than replaced so that the mapped
+    // bytes are only reused when they round-trip.
+    String text = StandardCharsets.UTF_8.newDecoder()
+        .onMalformedInput(CodingErrorAction.REPORT)
+        .onUnmappableCharacter(CodingErrorAction.REPORT)
+        .decode(mapped.duplicate())
+        .toString();
+    return new Content(mtime, mapped, text);
+  }
+
+  /** The content of the file at a particular modification time. */
+  private static final class Content {
+    final FileTime mtime;
+    final ByteBuffer mapped;
+    final String text;
+    final ConcurrentMap<Key, Rendered> rendered
+        = new ConcurrentHashMap<Key, Rendered>();
+
+    Content(FileTime mtime, ByteBuffer mapped, String text) {
+      this.mtime = mtime;
+      this.mapped = mapped;
+      this.text = text;
+    }
+  }
+
+  /** A start context. */
+  private static final class Key {
+    final int context;
+    final ReplacementTable rtable;
+
+    Key(int context, ReplacementTable rtable) {
+      this.context = context;
+      this.rtable = rtable;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Key)) { return false; }
+      Key that = (Key) o;
+      return this.context == that.context && this.rtable == that.rtable;
+    }
+
+    @Override
+    public int hashCode() {
+      return context + 31 * System.identityHashCode(rtable);
+    }
+  }
+
+  /** Normalized content and the context after it. */
+  private static final class Rendered {
+    final int context;
+    final ReplacementTable rtable;
+    final String normalized;
+    final ByteBuffer bytes;
+
+    Rendered(
+        int context, ReplacementTable rtable, String normalized,
+        ByteBuffer bytes) {
+      this.context = context;
+      this.rtable = rtable;
+      this.normalized = normalized;
+      this.bytes = bytes;
+    }
+  }
+}
@@ -0,0 +1,136 @@
+// Copyright (C) 2026 Google Inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.autoesc;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * The URL schemes, like {@code https} or {@code tel}, that untrusted URLs
+ * may use.
+ * <p>
+ * An untrusted URL whose scheme is not allowed is replaced with an innocuous
+ * URL so that untrusted values cannot inject code via {@code javascript:}
+ * and similar schemes.  URLs without a scheme, like {@code /path} or
+ * {@code //example.com/}, are always allowed.
+ * <p>
+ * Schemes are compiled into a case-insensitive {@link Trie} so that checking
+ * a URL neither allocates nor depends on the number of schemes.
+ *
+ * @see HTMLEscapingWriter#setSchemeAllowlist
+ */
+@Immutable
+public final class SchemeAllowlist {
+  /** Allows {@code http}, {@code https}, and {@code mailto}. */
+  public static final SchemeAllowlist DEFAULT = of("http", "https", "mailto");
+
+  private final String[] schemes;
+  private final Trie<Boolean> trie;
+
+  private SchemeAllowlist(String[] schemes) {
+    this.schemes = schemes;
+    Trie.Builder<Boolean> b = Trie.builder();
+    for (String scheme : schemes) {
+      b.put(scheme, Boolean.TRUE);
+    }
+    this.trie = b.build();
+  }
+
+  /**
+   * @param schemes scheme names without the trailing colon, like
+   *     {@code "https"} or {@code "tel"}.  Case is ignored.
+   * @throws IllegalArgumentException if a scheme is not a valid RFC 3986
+   *     scheme name.
+   */
+  public static SchemeAllowlist of(String... schemes) {
+    Set<String> names = new TreeSet<>();
+    for (String scheme : schemes) {
+      if (!isSchemeName(scheme)) {
+        throw new IllegalArgumentException("Bad scheme: " + scheme);
+      }
+      names.add(scheme.toLowerCase(Locale.ROOT));
+    }
+    return new SchemeAllowlist(names.toArray(new String[names.size()]));
+  }
+
+  /** Per RFC 3986: ALPHA *( ALPHA / DIGIT / "+" / "-" / "." ) */
+  private static boolean isSchemeName(String s) {
+    int n = s.length();
+    if (n == 0) { return false; }
+    for (int i = 0; i < n; ++i) {
+      char ch = CharsUtil.lcase(s.charAt(i));
+      if (!(('a' <= ch && ch <= 'z')
+            || (i != 0 && (('0' <= ch && ch <= '9')
+                           || ch == '+' || ch == '-' || ch == '.')))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * True if the URL s[off:end] has no scheme or an allowed scheme.
+   */
+  boolean isAllowed(String s, int off, int end) {
+    int colon = CharsUtil.indexOf(s, off, end, ':');
+    if (colon < 0) { return true; }
+    int slash = CharsUtil.indexOf(s, off, colon, '/');
+    if (slash >= 0) { return true; }
+    return trie.getIgnoreCase(s, off, colon) != null;
+  }
+
+  /**
+   * True if the URL s[off:end] has no scheme or an allowed scheme.
+   */
+  boolean isAllowed(char[] s, int off, int end) {
+    int colon = CharsUtil.indexOf(s, off, end, ':');
+    if (colon < 0) { return true; }
+    int slash = CharsUtil.indexOf(s, off, colon, '/');
+    if (slash >= 0) { return true; }
+    return trie.getIgnoreCase(s, off, colon) != null;
+  }
+
+  /**
+   * True if the URL s[off:end] has no scheme or an allowed scheme.
+   */
+  boolean isAllowed(CharSequence s, int off, int end) {
+    int colon = CharsUtil.indexOf(s, off, end, ':');
+    if (colon < 0) { return true; }
+    int slash = CharsUtil.indexOf(s, off, colon, '/');
+    if (slash >= 0) { return true; }
+    return trie.getIgnoreCase(s, off, colon) != null;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return o instanceof SchemeAllowlist
+        && Arrays.equals(schemes, ((SchemeAllowlist) o).schemes);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(schemes);
+  }
+
+  /** The lower-case scheme names in lexical order. */
+  @Override
+  public String toString() {
+    return Arrays.toString(schemes);
+  }
+}
@@ -0,0 +1,309 @@
+// Copyright (C) 2026 Google Inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.autoesc;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.Weigher;
+
+/**
+ * A writer that buffers a page as a list of segments so that it can be
+ * assembled from cached content without copying that content.
+ * <p>
+ * Constant content written by the {@link MemoizingHTMLEscapingWriter},
+ * {@link RowRenderer}, or a {@link FragmentCache} is referenced rather than
+ * copied.  Other content, like escaped values, is copied into blocks that
+ * never move, so the buffer does not copy content as it grows.
+ * <p>
+ * The page is written out via {@link #writeTo(Writer)}, or via
+ * {@link #writeTo(GatheringByteChannel)} which writes the UTF-8 bytes of all
+ * segments in one gathering write, using UTF-8 bytes of constants that are
+ * encoded once and shared.
+ */
+@NotThreadSafe
+public final class SegmentWriter extends Writer {
+  /** Shorter constants are copied since a segment costs more. */
+  static final int MIN_REFERENCED_CHARS = 32;
+  private static final int BLOCK_SIZE = 1 << 12;
+
+  /** UTF-8 encodings of constants shared by all writers. */
+  private static final Cache<String, byte[]> ENCODED
+      = CacheBuilder.newBuilder()
+      .maximumWeight(1 << 24)
+      .weigher(new Weigher<String, byte[]>() {
+        @Override
+        public int weigh(String s, byte[] b) {
+          return 2 * s.length() + b.length;
+        }
+      })
+      .build();
+
+  /** Referenced strings and copied runs of blocks. */
+  private final List<Object> segments = new ArrayList<>();
+  /** The block being filled or null. */
+  private char[] block;
+  /** The start of the run in block that has not been added to segments. */
+  private int runStart;
+  /** The number of chars used in block. */
+  private int n;
+  private long length;
+  private long copiedCharCount;
+  private long referencedCharCount;
+
+  @Override
+  public void write(char[] cbuf, int off, int len) {
+    for (int i = off, end = off + len; i < end;) {
+      if (block == null || n == block.length) { newBlock(); }
+      int k = Math.min(end - i, block.length - n);
+      System.arraycopy(cbuf, i, block, n, k);
+      n += k;
+      i += k;
+    }
+    length += len;
+    copiedCharCount += len;
+  }
+
+  @Override
+  public void write(String s, int off, int len) {
+    for (int i = off, end = off + len; i < end;) {
+      if (block == null || n == block.length) { newBlock(); }
+      int k = Math.min(end - i, block.length - n);
+      s.getChars(i, i + k, block, n);
+      n += k;
+      i += k;
+    }
+    length += len;
+    copiedCharCount += len;
+  }
+
+  @Override
+  public void write(String s) {
+    write(s, 0, s.length());
+  }
+
+  @Override
+  public void write(int c) {
+    if (block == null || n == block.length) { newBlock(); }
+    block[n++] = (char) c;
+    ++length;
+    ++copiedCharCount;
+  }
+
+  @Override
+  public Writer append(CharSequence csq) {
+    String s = String.valueOf(csq);
+    write(s, 0, s.length());
+    return this;
+  }
+
+  @Override
+  public Writer append(CharSequence csq, int start, int end) {
+    String s = String.valueOf(csq);
+    write(s, start, end - start);
+    return this;
+  }
+
+  @Override
+  public Writer append(char c) {
+    write(c);
+    return this;
+  }
+
+  /** Adds s by reference if it is long enough to be worth a segment. */
+  void writeConstant(String s) {
+    int len = s.length();
+    if (len < MIN_REFERENCED_CHARS) {
+      write(s, 0, len);
+      return;
+    }
+    endRun();
+    segments.add(s);
+    length += len;
+    referencedCharCount += len;
+  }
+
+  private void newBlock() {
+    endRun();
+    block = new char[BLOCK_SIZE];
+    runStart = n = 0;
+  }
+
+  private void endRun() {
+    if (n != runStart) {
+      segments.add(new Run(block, runStart, n));
+      runStart = n;
+    }
+  }
+
+  /** The number of chars written. */
+  public long length() {
+    return length;
+  }
+
+  /** The number of chars copied into the buffer. */
+  public long getCopiedCharCount() {
+    return copiedCharCount;
+  }
+
+  /** The number of chars in constants that were referenced, not copied. */
+  public long getReferencedCharCount() {
+    return referencedCharCount;
+  }
+
+  /** Writes the content to out. */
+  public void writeTo(Writer out) throws IOException {
+    endRun();
+    for (Object segment : segments) {
+      if (segment instanceof String) {
+        out.write((String) segment);
+      } else {
+        Run run = (Run) segment;
+        out.write(run.chars, run.start, run.end - run.start);
+      }
+    }
+  }
+
+  /**
+   * Writes the content as UTF-8 to out via one gathering write.
+   * Orphaned surrogates are encoded as {@code '?'} as by
+   * {@link StandardCharsets#UTF_8}.
+   */
+  public void writeTo(GatheringByteChannel out) throws IOException {
+    endRun();
+    int nSegments = segments.size();
+    List<ByteBuffer> buffers = new ArrayList<>(nSegments);
+    for (int i = 0; i < nSegments;) {
+      Object segment = segments.get(i);
+      if (segment instanceof String) {
+        String s = (String) segment;
+        byte[] bytes = ENCODED.getIfPresent(s);
+        if (bytes == null) {
+          bytes = s.getBytes(StandardCharsets.UTF_8);
+          ENCODED.put(s, bytes);
+        }
+        buffers.add(ByteBuffer.wrap(bytes));
+        ++i;
+      } else {
+        // Encode adjacent runs together since a pair may span blocks.
+        int end = i + 1;
+        while (end < nSegments && segments.get(end) instanceof Run) { ++end; }
+        buffers.add(encodeRuns(i, end));
+        i = end;
+      }
+    }
+    ByteBuffer[] srcs = buffers.toArray(new ByteBuffer[buffers.size()]);
+    for (int off = 0; off < srcs.length;) {
+      out.write(srcs, off, srcs.length - off);
+      while (off < srcs.length && !srcs[off].hasRemaining()) { ++off; }
+    }
+  }
+
+  private ByteBuffer encodeRuns(int start, int end) {
+    int nChars = 0;
+    for (int i = start; i < end; ++i) {
+      Run run = (Run) segments.get(i);
+      nChars += run.end - run.start;
+    }
+    // A char takes at most 3 bytes since a pair of them takes 4.
+    byte[] b = new byte[nChars * 3];
+    int k = 0;
+    char hi = 0;
+    for (int i = start; i < end; ++i) {
+      Run run = (Run) segments.get(i);
+      char[] chars = run.chars;
+      for (int j = run.start; j < run.end; ++j) {
+        char ch = chars[j];
+        if (hi != 0) {
+          if (Character.isLowSurrogate(ch)) {
+            int cp = Character.toCodePoint(hi, ch);
+            b[k++] = (byte) (0xf0 | (cp >> 18));
+            b[k++] = (byte) (0x80 | ((cp >> 12) & 0x3f));
+            b[k++] = (byte) (0x80 | ((cp >> 6) & 0x3f));
+            b[k++] = (byte) (0x80 | (cp & 0x3f));
+            hi = 0;
+            continue;
+          }
+          b[k++] = '?';
+          hi = 0;
+        }
+        if (ch < 0x80) {
+          b[k++] = (byte) ch;
+        } else if (ch < 0x800) {
+          b[k++] = (byte) (0xc0 | (ch >> 6));
+          b[k++] = (byte) (0x80 | (ch & 0x3f));
+        } else if (!Character.isSurrogate(ch)) {
+          b[k++] = (byte) (0xe0 | (ch >> 12));
+          b[k++] = (byte) (0x80 | ((ch >> 6) & 0x3f));
+          b[k++] = (byte) (0x80 | (ch & 0x3f));
+        } else if (Character.isHighSurrogate(ch)) {
+          hi = ch;
+        } else {
+          b[k++] = '?';
+        }
+      }
+    }
+    if (hi != 0) { b[k++] = '?'; }
+    return ByteBuffer.wrap(b, 0, k);
+  }
+
+  /** A no-op since content is held until {@link #writeTo}. */
+  @Override
+  public void flush() {
+    // Nothing to do.
+  }
+
+  @Override
+  public void close() {
+    endRun();
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder((int) length);
+    endRun();
+    for (Object segment : segments) {
+      if (segment instanceof String) {
+        sb.append((String) segment);
+      } else {
+        Run run = (Run) segment;
+        sb.append(run.chars, run.start, run.end - run.start);
+      }
+    }
+    return sb.toString();
+  }
+
+  /** A run of copied chars in a block. */
+  private static final class Run {
+    final char[] chars;
+    final int start;
+    final int end;
+
+    Run(char[] chars, int start, int end) {
+      this.chars = chars;
+      this.start = start;
+      this.end = end;
+    }
+  }
+}
@@ -0,0 +1,249 @@
+// Copyright (C) 2026 Google Inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.autoesc;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A placeholder for a sequence of untrusted values that arrive over time,
+ * like the items of a reactive stream, reserved via
+ * {@link HTMLEscapingWriter#deferStream}.
+ * <p>
+ * Items are escaped one after another in the context of the hole, and are
+ * written as they arrive once all content before the hole has been written.
+ * The escaper carries state from one item to the next so that items cannot
+ * combine to break out of the context:
+ * <ul>
+ *   <li>Where a JS value is expected, the items are written as the elements
+ *     of an array, as if a {@code List} of them had been written.</li>
+ *   <li>Inside a CDATA section, a {@code "]]>"} split across items is
+ *     escaped.</li>
+ *   <li>Where the whole value must be vetted, like a URL that might have a
+ *     dangerous protocol or an attribute name, the items are concatenated
+ *     and written when the stream {@link #end ends}.  A lone item is
+ *     written as is, so {@link SafeContent} keeps its trust, but typed
+ *     content concatenated with other items is vetted as plain text.</li>
+ *   <li>In a URL, a %-escape or surrogate pair split across items is held
+ *     back until the next item completes it, so it is not re-encoded.</li>
+ *   <li>Elsewhere, like in HTML text or a JS string, the output is the same as
+ *     if the concatenation of the items had been written.</li>
+ * </ul>
+ * Null items are written as nothing, as by
+ * {@link HTMLEscapingWriter#write(Object)}, except in a JS array where they
+ * are {@code null} elements.
+ * <p>
+ * A {@code java.util.concurrent.Flow.Subscriber} or similar adapts onto a
+ * stream hole by calling {@link #append} from {@code onNext}, {@link #end}
+ * from {@code onComplete} and {@link #fail} from {@code onError}.
+ */
+@ThreadSafe
+public final class StreamHole {
+  private final DeferredContent owner;
+  /**
+   * Items that arrived before the content ahead of the hole was written.
+   * Guarded by owner's lock.
+   */
+  final List<Object> pending = new ArrayList<>();
+  /** True once {@link #end} has been called.  Guarded by owner's lock. */
+  boolean ended;
+  /** True once {@link #start} has been called.  Guarded by owner's lock. */
+  boolean started;
+
+  // The state of the escaper, guarded by owner's lock.
+  private Escaper esc;
+  private int preparedContext;
+  private int nItems;
+  /**
+   * The first non-null item of a stream that is filtered as a whole, as is
+   * if it is {@link SafeContent}.
+   */
+  private @Nullable Object firstItem;
+  /** Receives later items that are filtered as a whole. */
+  private @Nullable StringBuilder whole;
+  /**
+   * The end of the items so far in a URL that the next item might continue,
+   * like the {@code "%2"} of {@code "%20"}, or null.
+   */
+  private @Nullable String urlTail;
+  /** The state of CDATA escaping as defined in {@link XML}. */
+  private int cdataState;
+
+  StreamHole(DeferredContent owner) {
+    this.owner = owner;
+  }
+
+  /**
+   * Supplies the next untrusted value.  This may be called from any thread
+   * but calls must be ordered as the values are.
+   * Errors raised while writing are thrown here.
+   *
+   * @throws IllegalStateException if the stream has ended.
+   */
+  public void append(@Nullable Object value)
+      throws IOException, TemplateException {
+    owner.append(this, value);
+  }
+
+  /**
+   * Ends the sequence of values, so that content after the hole may be
+   * written.  Errors raised while writing that content, including any raised
+   * by a {@link HTMLEscapingWriter#close close} that was waiting for this
+   * hole, are thrown here.
+   *
+   * @throws IllegalStateException if the stream has already ended.
+   */
+  public void end() throws IOException, TemplateException {
+    owner.end(this);
+  }
+
+  /**
+   * Abandons the writer, as when the source of values fails.  No further
+   * content is written, and later writes, flushes, and closes of the writer
+   * throw an {@link IOException} whose cause is th.
+   */
+  public void fail(Throwable th) {
+    owner.fail(th);
+  }
+
+  /** True if {@link #end} has been called. */
+  public boolean isEnded() {
+    return owner.isEnded(this);
+  }
+
+  /**
+   * Called when all content before the hole has been written to choose an
+   * escaper for the items.
+   */
+  void start(HTMLEscapingWriter w) throws IOException, TemplateException {
+    started = true;
+    esc = w.prepareUnsafe();
+    preparedContext = w.getContext();
+    switch (esc) {
+      case ESCAPE_CDATA:
+        cdataState = XML.CDATA_START;
+        break;
+      default:
+        break;
+    }
+  }
+
+  /** Writes an item after {@link #start}. */
+  void write(HTMLEscapingWriter w, @Nullable Object o)
+      throws IOException, TemplateException {
+    switch (esc) {
+      case ESCAPE_JS_VALUE:
+        w.writePreparedJSElement(o, preparedContext, nItems == 0);
+        break;
+      case FILTER_CSS_URL: case FILTER_CSS_VALUE: case FILTER_NAME_ONTO:
+      case FILTER_URL:
+        if (o == null) { break; }
+        if (firstItem == null) {
+          // Copy mutable values since they are written later.
+          firstItem = o instanceof SafeContent
+              ? o : ReplacementTable.toString(o);
+        } else {
+          if (whole == null) {
+            whole = new StringBuilder(ReplacementTable.toString(firstItem));
+          }
+          whole.append(ReplacementTable.toString(o));
+        }
+        break;
+      case ESCAPE_CDATA:
+        if (o instanceof char[]) {
+          char[] chars = (char[]) o;
+          cdataState = XML.escapeCDATAChunkOnto(
+              chars, 0, chars.length, cdataState, w.getWriter());
+        } else if (o != null) {
+          String s = o.toString();
+          cdataState = XML.escapeCDATAChunkOnto(
+              s, 0, s.length(), cdataState, w.getWriter());
+        }
+        break;
+      case ESCAPE_URL: case NORMALIZE_URL:
+        writeURLItem(w, o);
+        break;
+      default:
+        w.writePrepared(o, esc, preparedContext);
+        break;
+    }
+    ++nItems;
+  }
+
+  private void writeURLItem(HTMLEscapingWriter w, @Nullable Object o)
+      throws IOException, TemplateException {
+    if (o == null) { return; }
+    if (ContentType.URL.derefSafeContent(o) != null) {
+      flushURLTail(w);
+      w.writePrepared(o, esc, preparedContext);
+      return;
+    }
+    String s = ReplacementTable.toString(o);
+    if (urlTail != null) {
+      s = urlTail + s;
+      urlTail = null;
+    }
+    int n = s.length();
+    int end = n;
+    if (end != 0 && Character.isHighSurrogate(s.charAt(end - 1))) {
+      --end;
+    } else if (end != 0 && s.charAt(end - 1) == '%') {
+      --end;
+    } else if (end >= 2 && s.charAt(end - 2) == '%'
+               && Character.digit(s.charAt(end - 1), 16) >= 0) {
+      end -= 2;
+    }
+    if (end != n) { urlTail = s.substring(end); }
+    w.writePrepared(s.substring(0, end), esc, preparedContext);
+  }
+
+  private void flushURLTail(HTMLEscapingWriter w)
+      throws IOException, TemplateException {
+    if (urlTail != null) {
+      String tail = urlTail;
+      urlTail = null;
+      w.writePrepared(tail, esc, preparedContext);
+    }
+  }
+
+  /** Finishes the items after {@link #end}. */
+  void finish(HTMLEscapingWriter w) throws IOException, TemplateException {
+    switch (esc) {
+      case ESCAPE_JS_VALUE:
+        w.getWriter().write(nItems == 0 ? "[]" : "]");
+        break;
+      case FILTER_CSS_URL: case FILTER_CSS_VALUE: case FILTER_NAME_ONTO:
+      case FILTER_URL:
+        Object value = whole != null ? whole.toString()
+            : firstItem != null ? firstItem : "";
+        w.writePrepared(value, esc, preparedContext);
+        firstItem = null;
+        whole = null;
+        break;
+      case ESCAPE_CDATA:
+        XML.endCDATAOnto(cdataState, w.getWriter());
+        break;
+      case ESCAPE_URL: case NORMALIZE_URL:
+        flushURLTail(w);
+        break;
+      default:
+        break;
+    }
+  }
+}
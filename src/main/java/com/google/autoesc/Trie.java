@@ -15,6 +15,7 @@
 package com.google.autoesc;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
@@ -23,48 +24,55 @@ import javax.annotation.Nullable;
 
 /**
  * A character tree map.
+ * <p>
+ * The tree is stored as a double-array trie: node n's child for char ch is
+ * node {@code base[n] + ch} when {@code check[base[n] + ch] == n}, so a
+ * lookup walks a few flat arrays instead of a graph of objects.
+ * The root is node 0.
  */
 public final class Trie<T> {
-  private final char start;
-  private final Trie<T>[] arr;
-  /** The value associated with the trie node if any. */
-  public final T value;
-
-  private Trie(char start, Trie<T>[] arr, @Nullable T value) {
-    this.start = start;
-    this.arr = arr;
-    this.value = value;
+  private final int[] base;
+  /** The parent of each node, or -1 for unused slots. */
+  private final int[] check;
+  /** The value associated with each node if any. */
+  private final Object[] values;
+
+  private Trie(int[] base, int[] check, Object[] values) {
+    this.base = base;
+    this.check = check;
+    this.values = values;
   }
 
-  @Nullable Trie<T> get(char ch) {
-    int i = ch - start;
-    return 0 <= i && i < arr.length ? arr[i] : null;
+  /** The child of node for ch or -1. */
+  private int child(int node, char ch) {
+    int t = base[node] + ch;
+    return 0 < t && t < check.length && check[t] == node ? t : -1;
   }
 
-  @Nullable Trie<T> getIgnoreCase(char ch) {
-    int i = CharsUtil.lcase(ch) - start;
-    return 0 <= i && i < arr.length ? arr[i] : null;
+  @SuppressWarnings("unchecked")
+  private T value(int node) {
+    return (T) values[node];
   }
 
   /**
    * Returns the value corresponding to s[off:end].
    */
   @Nullable T get(String s, int offset, int end) {
-    Trie<T> t = this;
+    int node = 0;
     for (int off = offset; off < end; ++off) {
-      t = t.get(s.charAt(off));
-      if (t == null) { return null; }
+      node = child(node, s.charAt(off));
+      if (node < 0) { return null; }
     }
-    return t.value;
+    return value(node);
   }
 
   @Nullable T get(char[] s, int offset, int end) {
-    Trie<T> t = this;
+    int node = 0;
     for (int off = offset; off < end; ++off) {
-      t = t.get(s[off]);
-      if (t == null) { return null; }
+      node = child(node, s[off]);
+      if (node < 0) { return null; }
     }
-    return t.value;
+    return value(node);
   }
 
   /**
@@ -72,39 +80,50 @@ public final class Trie<T> {
    * characters and matching only against lowercase keys.
    */
   @Nullable T getIgnoreCase(String s, int offset, int end) {
-    Trie<T> t = this;
+    int node = 0;
     for (int off = offset; off < end; ++off) {
-      t = t.getIgnoreCase(s.charAt(off));
-      if (t == null) { return null; }
+      node = child(node, CharsUtil.lcase(s.charAt(off)));
+      if (node < 0) { return null; }
     }
-    return t.value;
+    return value(node);
   }
 
   @Nullable T getIgnoreCase(char[] s, int offset, int end) {
-    Trie<T> t = this;
+    int node = 0;
     for (int off = offset; off < end; ++off) {
-      t = t.getIgnoreCase(s[off]);
-      if (t == null) { return null; }
+      node = child(node, CharsUtil.lcase(s[off]));
+      if (node < 0) { return null; }
     }
-    return t.value;
+    return value(node);
+  }
+
+  @Nullable T getIgnoreCase(CharSequence s, int offset, int end) {
+    int node = 0;
+    for (int off = offset; off < end; ++off) {
+      node = child(node, CharsUtil.lcase(s.charAt(off)));
+      if (node < 0) { return null; }
+    }
+    return value(node);
   }
 
   @Override
   public String toString() {
     StringBuilder sb = new StringBuilder();
-    toString(sb, 0);
+    toString(0, sb, 0);
     return sb.toString();
   }
 
-  private void toString(StringBuilder sb, int depth) {
-    sb.append(value).append(" {");
+  private void toString(int node, StringBuilder sb, int depth) {
+    sb.append(values[node]).append(" {");
     int childDepth = depth + 1;
-    for (int i = 0; i < arr.length; ++i) {
-      if (arr[i] == null) { continue; }
+    // Children are in char order since a node's children are at a fixed
+    // offset from their chars.
+    for (int t = 1; t < check.length; ++t) {
+      if (check[t] != node) { continue; }
       sb.append('\n');
       for (int j = childDepth; --j >= 0;) { sb.append("  "); }
-      sb.append('\'').append((char) (i + start)).append("':");
-      arr[i].toString(sb, childDepth);
+      sb.append('\'').append((char) (t - base[node])).append("':");
+      toString(t, sb, childDepth);
     }
     sb.append("}");
   }
@@ -131,10 +150,16 @@ public final class Trie<T> {
       for (int i = 0, n = s.length(); i < n; ++i) {
         char ch = s.charAt(i);
         Builder<S> next = null;
-        for (Builder<S> child : cb.children) {
-          if (child.ch == ch) {
-            next = child;
-            break;
+        // Keys are usually put in order, so check the last child first.
+        int nChildren = cb.children.size();
+        if (nChildren != 0 && cb.children.get(nChildren - 1).ch == ch) {
+          next = cb.children.get(nChildren - 1);
+        } else {
+          for (Builder<S> child : cb.children) {
+            if (child.ch == ch) {
+              next = child;
+              break;
+            }
           }
         }
         if (next == null) {
@@ -146,31 +171,83 @@ public final class Trie<T> {
       cb.value = newValue;
     }
 
-    @SuppressWarnings({ "unchecked", "synthetic-access" })
+    @SuppressWarnings("synthetic-access")
     Trie<S> build() {
-      Trie<S>[] arr;
-      int n = children.size();
-      char min = 0;
-      if (n == 0) {
-        arr = (Trie<S>[]) NO_TRIES;
-      } else {
-        Collections.sort(children, new Comparator<Builder<?>>() {
-            @Override
-            public int compare(Builder<?> a, Builder<?> b) {
-              return a.ch - b.ch;
-            }
-          });
-        min = children.get(0).ch;
-        int max = children.get(n-1).ch;
-        arr = (Trie<S>[]) new Trie<?>[max - min + 1];
-        for (int i = 0; i < n; ++i) {
-          Builder<S> b = children.get(i);
-          arr[b.ch - min] = b.build();
+      Layout layout = new Layout();
+      layout.values[0] = value;
+      layout.place(this, 0);
+      int n = layout.size;
+      return new Trie<>(
+          Arrays.copyOf(layout.base, n), Arrays.copyOf(layout.check, n),
+          Arrays.copyOf(layout.values, n));
+    }
+  }
+
+  /** Assigns builder nodes to slots in a double array. */
+  private static final class Layout {
+    int[] base = new int[64];
+    int[] check = new int[64];
+    Object[] values = new Object[64];
+    /** One past the last used slot. */
+    int size = 1;
+    /** No slot before this is free. */
+    int firstFree = 1;
+
+    Layout() {
+      Arrays.fill(check, -1);
+      check[0] = 0;
+    }
+
+    /** Places b's descendants given that b is at slot node. */
+    void place(Builder<?> b, int node) {
+      int n = b.children.size();
+      if (n == 0) { return; }
+      Collections.sort(b.children, new Comparator<Builder<?>>() {
+          @Override
+          public int compare(Builder<?> x, Builder<?> y) {
+            return x.ch - y.ch;
+          }
+        });
+      char min = b.children.get(0).ch;
+      int nodeBase = findBase(b.children, min);
+      base[node] = nodeBase;
+      for (Builder<?> child : b.children) {
+        int t = nodeBase + child.ch;
+        check[t] = node;
+        values[t] = child.value;
+        size = Math.max(size, t + 1);
+      }
+      while (firstFree < check.length && check[firstFree] >= 0) {
+        ++firstFree;
+      }
+      for (Builder<?> child : b.children) {
+        place(child, nodeBase + child.ch);
+      }
+    }
+
+    /** The least base such that each child's slot is free and not the root. */
+    private int findBase(List<? extends Builder<?>> children, char min) {
+      candidate_loop:
+      for (int t = Math.max(firstFree, 1);; ++t) {
+        int candidate = t - min;
+        for (Builder<?> child : children) {
+          int ct = candidate + child.ch;
+          ensureCapacity(ct + 1);
+          if (check[ct] >= 0) { continue candidate_loop; }
         }
+        return candidate;
       }
-      return new Trie<>(min, arr, value);
     }
-  }
 
-  private static final Trie<?>[] NO_TRIES = new Trie<?>[0];
+    private void ensureCapacity(int n) {
+      if (n > check.length) {
+        int oldLength = check.length;
+        int newLength = Math.max(n, oldLength * 2);
+        base = Arrays.copyOf(base, newLength);
+        check = Arrays.copyOf(check, newLength);
+        values = Arrays.copyOf(values, newLength);
+        Arrays.fill(check, oldLength, newLength, -1);
+      }
+    }
+  }
 }
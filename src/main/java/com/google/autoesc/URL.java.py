@@ -100,6 +100,39 @@ class URL {
     }
   }
 
+  /**
+   * {@code "%xx"} for each octet so that an octet can be percent-encoded by
+   * copying three chars.
+   */
+  private static final char[] PCT_OCTETS = new char[256 * 3];
+
+  static {
+    String hex = "0123456789abcdef";
+    for (int i = 0, k = 0; i < 256; ++i) {
+      PCT_OCTETS[k++] = '%';
+      PCT_OCTETS[k++] = hex.charAt(i >> 4);
+      PCT_OCTETS[k++] = hex.charAt(i & 0xf);
+    }
+  }
+
+  /** The most chars needed to percent-encode one code point as UTF-8. */
+  private static final int MAX_PCT_CHARS_PER_CP = 4 * 3;
+
+  /**
+   * An upper bound on the length of escapeOnto's output for len chars.
+   * A char takes at most 3 UTF-8 bytes since a supplementary code point
+   * takes 2 chars and 4 bytes.
+   */
+  static long maxEscapedLength(int len) {
+    return 3L * 3 * len;
+  }
+
+  /**
+   * Size of the buffer into which runs of chars that need encoding are
+   * percent-encoded so that each run costs one write.
+   */
+  private static final int PCT_BUF_LEN = 16 * MAX_PCT_CHARS_PER_CP;
+
   /**
    * escapeURLOnto normalizes (when norm is true) or escapes its input to
    * produce a valid hierarchical or opaque URL part.
@@ -109,83 +142,122 @@ class URL {
       throws IOException {
     boolean[] noEncode = norm ? NORM_URL_NO_ENCODE : URL_NO_ENCODE;
     int off = offset;
-    for (int i = off, nc; i < end; i += nc) {
-      int cp = s.codePointAt(i);
-      nc = Character.charCount(cp);
-      if (cp < noEncode.length && noEncode[cp]) { continue; }
+    char[] buf = null;
+    for (int i = off; i < end;) {
+      char c = s.charAt(i);
+      if (c < noEncode.length && noEncode[c]) {
+        ++i;
+        continue;
+      }
       // When normalizing do not re-encode valid escapes.
-      if (cp == '%' && norm && i+2 < end && isHex(s.charAt(i+1))
-          && isHex(s.charAt(i+2))) {
-        i = i+2;  // Skip hex digits.
+      if (norm && isPctEscape(s, i, end)) {
+        i += 3;
         continue;
       }
       out.write(s, off, i - off);
-      off = i + nc;
-      // This assumes that all URLs use UTF-8 as the content-encoding.
-      // This is similar to the URI to IRI encoding scheme defined in
-      // section 3.1 of RFC 3987, and behaves the same as the EcmaScript builtin
-      // encodeURIComponent.
-      // It should not cause any misencoding of URLs in pages with
-      // Content-type: text/html;charset=UTF-8.
-      if (cp < 0x800) {
-        if (cp < 0x80) {
-          emitPctOctet((byte)(cp & 0x7f), out);
-        } else {
-          emitPctOctet((byte)(0xc0 | (cp >> 6)), out);
-          emitPctOctet((byte)(0x80 | (cp & 0x3f)), out);
+      if (buf == null) { buf = new char[PCT_BUF_LEN]; }
+      // Encode the whole run of chars that need encoding into buf.
+      int n = 0;
+      while (true) {
+        int cp = s.codePointAt(i);
+        i += Character.charCount(cp);
+        if (n + MAX_PCT_CHARS_PER_CP > buf.length) {
+          out.write(buf, 0, n);
+          n = 0;
         }
-      } else {
-        if (cp < 0x10000) {
-          emitPctOctet((byte)(0xe0 | (cp >> 12)), out);
-        } else {
-          emitPctOctet((byte)(0xf0 | (cp >> 18)), out);
-          emitPctOctet((byte)(0x80 | ((cp >> 12) & 0x3f)), out);
+        n = pctEncode(cp, buf, n);
+        if (i == end) { break; }
+        c = s.charAt(i);
+        if ((c < noEncode.length && noEncode[c])
+            || (norm && isPctEscape(s, i, end))) {
+          break;
         }
-        emitPctOctet((byte)(0x80 | ((cp >> 6) & 0x3f)), out);
-        emitPctOctet((byte)(0x80 | (cp & 0x3f)), out);
       }
+      out.write(buf, 0, n);
+      off = i;
     }
     out.write(s, off, end - off);
   }
 
+  /** True if s[off:end] starts with a valid escape like {@code %2A}. */
+  private static boolean isPctEscape(String s, int off, int end) {
+    return s.charAt(off) == '%' && off+2 < end && isHex(s.charAt(off+1))
+        && isHex(s.charAt(off+2));
+  }
+
   private static boolean isHex(int cp) {
     return ('0' <= cp && cp <= '9') || ('A' <= cp && cp <='F')
       || ('a' <= cp && cp <= 'f');
   }
 
-  private static void emitPctOctet(byte octet, Writer out) throws IOException {
-    out.write('%');
-    out.write("0123456789abcdef".charAt((octet >> 4) & 0xf));
-    out.write("0123456789abcdef".charAt(octet & 0xf));
+  /**
+   * Percent-encodes the UTF-8 encoding of cp into buf at pos.
+   * @return the position in buf after the encoded octets.
+   */
+  private static int pctEncode(int cp, char[] buf, int pos) {
+    // This assumes that all URLs use UTF-8 as the content-encoding.
+    // This is similar to the URI to IRI encoding scheme defined in
+    // section 3.1 of RFC 3987, and behaves the same as the EcmaScript builtin
+    // encodeURIComponent.
+    // It should not cause any misencoding of URLs in pages with
+    // Content-type: text/html;charset=UTF-8.
+    int p = pos;
+    if (cp < 0x800) {
+      if (cp < 0x80) {
+        p = pctOctet(cp, buf, p);
+      } else {
+        p = pctOctet(0xc0 | (cp >> 6), buf, p);
+        p = pctOctet(0x80 | (cp & 0x3f), buf, p);
+      }
+    } else {
+      if (cp < 0x10000) {
+        p = pctOctet(0xe0 | (cp >> 12), buf, p);
+      } else {
+        p = pctOctet(0xf0 | (cp >> 18), buf, p);
+        p = pctOctet(0x80 | ((cp >> 12) & 0x3f), buf, p);
+      }
+      p = pctOctet(0x80 | ((cp >> 6) & 0x3f), buf, p);
+      p = pctOctet(0x80 | (cp & 0x3f), buf, p);
+    }
+    return p;
+  }
+
+  private static int pctOctet(int octet, char[] buf, int pos) {
+    int k = octet * 3;
+    buf[pos] = PCT_OCTETS[k];
+    buf[pos+1] = PCT_OCTETS[k+1];
+    buf[pos+2] = PCT_OCTETS[k+2];
+    return pos + 3;
   }
 
   static final String FILTER_REPLACEMENT_URL = "#ZautoescZ";
 
   /**
-   * urlFilter returns its input unless it contains an unsafe protocol in which
-   * case it defangs the entire URL.
+   * urlFilter returns its input unless it contains a scheme that is not in
+   * schemes in which case it defangs the entire URL.
    */
-  static String filterURL(@Nullable Object o) {
+  static String filterURL(@Nullable Object o, SchemeAllowlist schemes) {
     String safe = ContentType.URL.derefSafeContent(o);
     if (safe != null) { return safe; }
+    if (o instanceof CharSequence && !(o instanceof String)) {
+      // Check before converting to a String so that rejected values are not
+      // copied.
+      CharSequence cs = (CharSequence) o;
+      if (!schemes.isAllowed(cs, 0, cs.length())) {
+        return FILTER_REPLACEMENT_URL;
+      }
+      return cs.toString();
+    }
     String s = ReplacementTable.toString(o);
-    return urlPrefixAllowed(s, 0, s.length()) ? s : FILTER_REPLACEMENT_URL;
+    return schemes.isAllowed(s, 0, s.length()) ? s : FILTER_REPLACEMENT_URL;
   }
 
+  /**
+   * True if s[off:end] has no scheme or a scheme allowed by
+   * {@link SchemeAllowlist#DEFAULT}.
+   */
   static boolean urlPrefixAllowed(String s, int off, int end) {
-    int colon = CharsUtil.indexOf(s, off, end, ':');
-    if (colon < 0) { return true; }
-    int slash = CharsUtil.indexOf(s, off, colon, '/');
-    if (slash >= 0) { return true; }
-    switch (colon - off) {
-    case 4:
-      return CharsUtil.startsWithIgnoreCase(s, off, colon, "http");
-    case 5:
-      return CharsUtil.startsWithIgnoreCase(s, off, colon, "https");
-    case 6:
-      return CharsUtil.startsWithIgnoreCase(s, off, colon, "mailto");
-    }
-    return false;
+    return SchemeAllowlist.DEFAULT.isAllowed(s, off, end);
   }
 }
 """  # Fix emacs syntax highlighting "
@@ -0,0 +1,264 @@
+// Copyright (C) 2026 Google Inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.autoesc;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.zip.CRC32;
+import java.util.zip.Checksum;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A writer that UTF-8 encodes onto a byte channel through a fixed size
+ * buffer, so that very large documents, like feeds and sitemaps written via
+ * {@link HTMLEscapingWriter#forXML}, are written in constant memory.
+ * <p>
+ * Bytes are written to the channel whenever the buffer fills, and on
+ * {@link #flush}.
+ * Orphaned surrogates are encoded as {@code '?'} as by
+ * {@link java.nio.charset.StandardCharsets#UTF_8}.
+ * <p>
+ * An optional {@link Checksum} is updated from the buffer just before each
+ * write to the channel, so a server can derive an {@link #getETag ETag}
+ * from the exact bytes sent without buffering the whole page.
+ */
+@NotThreadSafe
+public final class Utf8ChannelWriter extends Writer {
+  /** The default size of the byte buffer. */
+  public static final int DEFAULT_BUFFER_SIZE = 1 << 18;
+
+  private WritableByteChannel out;
+  private final byte[] bytes;
+  private final ByteBuffer byteBuffer;
+  /** The number of bytes in bytes that have not been written to out. */
+  private int n;
+  /** A high surrogate at the end of the last write or 0. */
+  private char pendingHighSurrogate;
+  /** Receives chars from strings so they can be encoded from an array. */
+  private final char[] chars = new char[1 << 10];
+  /** Updated with bytes as they are written to out, or null. */
+  private final @Nullable Checksum checksum;
+  /** The number of bytes written to out. */
+  private long byteCount;
+
+  /** @param out receives UTF-8 bytes. */
+  public Utf8ChannelWriter(WritableByteChannel out) {
+    this(out, DEFAULT_BUFFER_SIZE);
+  }
+
+  /**
+   * @param out receives UTF-8 bytes.
+   * @param bufferSize the number of bytes to buffer before writing to out.
+   */
+  public Utf8ChannelWriter(WritableByteChannel out, int bufferSize) {
+    this(out, bufferSize, null);
+  }
+
+  /**
+   * @param out receives UTF-8 bytes.
+   * @param bufferSize the number of bytes to buffer before writing to out.
+   * @param checksum if not null, is updated with each byte written to out,
+   *     e.g. a {@link CRC32}.
+   */
+  public Utf8ChannelWriter(
+      WritableByteChannel out, int bufferSize, @Nullable Checksum checksum) {
+    // A code point takes at most 4 bytes.
+    if (bufferSize < 4) {
+      throw new IllegalArgumentException("bufferSize=" + bufferSize);
+    }
+    this.out = out;
+    this.bytes = new byte[bufferSize];
+    this.byteBuffer = ByteBuffer.wrap(bytes);
+    this.checksum = checksum;
+  }
+
+  /**
+   * A writer that computes a {@link CRC32} of the bytes written to out.
+   */
+  public static Utf8ChannelWriter withChecksum(WritableByteChannel out) {
+    return new Utf8ChannelWriter(out, DEFAULT_BUFFER_SIZE, new CRC32());
+  }
+
+  @Override
+  public void write(char[] cbuf, int off, int len) throws IOException {
+    int end = off + len;
+    int i = off;
+    if (pendingHighSurrogate != 0 && i < end) {
+      char hi = pendingHighSurrogate;
+      pendingHighSurrogate = 0;
+      if (Character.isLowSurrogate(cbuf[i])) {
+        encodeSupplementary(Character.toCodePoint(hi, cbuf[i]));
+        ++i;
+      } else {
+        encodeByte('?');
+      }
+    }
+    byte[] b = bytes;
+    int limit = b.length;
+    while (i < end) {
+      // Fast path for runs of ASCII.
+      int k = n;
+      for (int stop = Math.min(end, i + (limit - k)); i < stop; ++i) {
+        char ch = cbuf[i];
+        if (ch >= 0x80) { break; }
+        b[k++] = (byte) ch;
+      }
+      n = k;
+      if (i == end) { break; }
+      if (limit - n < 4) {
+        drain();
+        continue;
+      }
+      // cbuf[i] is not ASCII.
+      char ch = cbuf[i++];
+      if (ch < 0x800) {
+        b[n++] = (byte) (0xc0 | (ch >> 6));
+        b[n++] = (byte) (0x80 | (ch & 0x3f));
+      } else if (!Character.isSurrogate(ch)) {
+        b[n++] = (byte) (0xe0 | (ch >> 12));
+        b[n++] = (byte) (0x80 | ((ch >> 6) & 0x3f));
+        b[n++] = (byte) (0x80 | (ch & 0x3f));
+      } else if (Character.isHighSurrogate(ch)) {
+        if (i == end) {
+          pendingHighSurrogate = ch;
+        } else if (Character.isLowSurrogate(cbuf[i])) {
+          encodeSupplementary(Character.toCodePoint(ch, cbuf[i]));
+          ++i;
+        } else {
+          b[n++] = '?';
+        }
+      } else {
+        b[n++] = '?';
+      }
+    }
+  }
+
+  @Override
+  public void write(String s, int off, int len) throws IOException {
+    char[] cbuf = chars;
+    for (int i = off, end = off + len; i < end;) {
+      int chunkEnd = Math.min(end, i + cbuf.length);
+      s.getChars(i, chunkEnd, cbuf, 0);
+      write(cbuf, 0, chunkEnd - i);
+      i = chunkEnd;
+    }
+  }
+
+  @Override
+  public void write(int c) throws IOException {
+    chars[0] = (char) c;
+    write(chars, 0, 1);
+  }
+
+  /**
+   * Writes constant content so that a {@link GzipChannel} can splice in its
+   * shared compressed form.
+   */
+  void writeConstant(String s) throws IOException {
+    if (!(out instanceof GzipChannel) || pendingHighSurrogate != 0
+        || s.length() < GzipChannel.MIN_PRECOMPRESSED_CHARS) {
+      write(s, 0, s.length());
+      return;
+    }
+    drain();
+    byte[] raw = ((GzipChannel) out).writePrecompressed(s);
+    if (checksum != null) { checksum.update(raw, 0, raw.length); }
+    byteCount += raw.length;
+  }
+
+  private void encodeByte(char ch) throws IOException {
+    if (n == bytes.length) { drain(); }
+    bytes[n++] = (byte) ch;
+  }
+
+  private void encodeSupplementary(int cp) throws IOException {
+    if (bytes.length - n < 4) { drain(); }
+    byte[] b = bytes;
+    b[n++] = (byte) (0xf0 | (cp >> 18));
+    b[n++] = (byte) (0x80 | ((cp >> 12) & 0x3f));
+    b[n++] = (byte) (0x80 | ((cp >> 6) & 0x3f));
+    b[n++] = (byte) (0x80 | (cp & 0x3f));
+  }
+
+  /** Writes the buffered bytes to out. */
+  private void drain() throws IOException {
+    if (checksum != null) { checksum.update(bytes, 0, n); }
+    byteCount += n;
+    ByteBuffer bb = byteBuffer;
+    bb.clear();
+    bb.limit(n);
+    while (bb.hasRemaining()) {
+      out.write(bb);
+    }
+    n = 0;
+  }
+
+  /**
+   * Writes buffered bytes to the channel.  A trailing high surrogate is held
+   * back until the next write or {@link #close}.
+   */
+  @Override
+  public void flush() throws IOException {
+    drain();
+  }
+
+  /** Flushes and closes the channel. */
+  @Override
+  public void close() throws IOException {
+    if (out == null) { return; }
+    if (pendingHighSurrogate != 0) {
+      pendingHighSurrogate = 0;
+      encodeByte('?');
+    }
+    drain();
+    out.close();
+    out = null;
+  }
+
+  /**
+   * The number of bytes written to the channel so far.  After {@link #flush}
+   * or {@link #close} this counts every byte written to this writer.
+   */
+  public long getByteCount() {
+    return byteCount;
+  }
+
+  /**
+   * The checksum of the bytes written to the channel so far, so it is
+   * complete after {@link #close}, and covers a prefix of the output that
+   * ends at a chunk boundary after {@link #flush}.
+   *
+   * @throws IllegalStateException if there is no checksum.
+   */
+  public long getChecksumValue() {
+    if (checksum == null) { throw new IllegalStateException("no checksum"); }
+    return checksum.getValue();
+  }
+
+  /**
+   * A strong entity tag, quoted per RFC 7232, derived from the checksum and
+   * byte count of the bytes written to the channel so far.
+   *
+   * @throws IllegalStateException if there is no checksum.
+   */
+  public String getETag() {
+    return "\"" + Long.toHexString(getChecksumValue())
+        + "-" + Long.toHexString(byteCount) + "\"";
+  }
+}
@@ -96,47 +96,120 @@ class XML {
    * {@code /<tag><!\[CDATA\[(.*?)\]\]><\/tag>/} can simply remove all
    * all occurrences of {@code "]]><![CDATA["}.
    */
-  static void escapeCDATAOnto(String s, int offset, int end, Writer out)
+  static void escapeCDATAOnto(String s, int off, int end, Writer out)
       throws IOException {
-    if (offset >= end) { return; }
-
-    int off = offset;
-    // Elide all NULs which are not strictly allowed in XML.
-    for (int i = off; i < end; ++i) {
-      if (s.charAt(i) == 0) {
-        StringBuilder sb = new StringBuilder(end - off);
-        for (i = off; i < end; ++i) {
-          char ch = s.charAt(i);
-          if (ch != 0) { sb.append(ch); }
-        }
-        escapeCDATAOnto(sb.toString(), 0, sb.length(), out);
-        return;
-      }
-    }
+    endCDATAOnto(escapeCDATAChunkOnto(s, off, end, CDATA_START, out), out);
+  }
 
-    // Make sure the start of the string can't combine with any characters
+  /** Ends a CDATA section so that a new one can start. */
+  private static final String CDATA_SPLIT = "]]><![CDATA[";
+
+  /**
+   * A state of {@link #escapeCDATAChunkOnto}: nothing but NULs seen.
+   */
+  static final int CDATA_START = 0;
+  /**
+   * A state of {@link #escapeCDATAChunkOnto}: the value so far is a single
+   * {@code ']'} which has not been written.
+   */
+  static final int CDATA_START_BRACKET = 1;
+  /**
+   * A state of {@link #escapeCDATAChunkOnto}: the output so far does not end
+   * with {@code ']'}.
+   */
+  static final int CDATA_AFTER_TEXT = 2;
+  /**
+   * A state of {@link #escapeCDATAChunkOnto}: the output so far ends with one
+   * {@code ']'}.
+   */
+  static final int CDATA_AFTER_BRACKET = 3;
+  /**
+   * A state of {@link #escapeCDATAChunkOnto}: the output so far ends with
+   * {@code "]]"}.
+   */
+  static final int CDATA_AFTER_BRACKETS = 4;
+
+  /**
+   * escapeCDATAChunkOnto escapes one chunk of a value as per
+   * {@link #escapeCDATAOnto} so that a value can be streamed in chunks.
+   * Each run of chars that need no change is written with one write.
+   *
+   * @param state {@link #CDATA_START} for the first chunk of a value, and the
+   *     result of the call for the previous chunk otherwise.
+   * @return the state to pass with the next chunk or to
+   *     {@link #endCDATAOnto} after the last chunk.
+   */
+  static int escapeCDATAChunkOnto(
+      String s, int offset, int end, int state, Writer out)
+      throws IOException {
+    int st = state;
+    int i = offset;
+    // Make sure the start of the value can't combine with any characters
     // already on out to break out of the CDATA section.
-    {
-      char ch0 = s.charAt(off);
-      if (ch0 == '>'
-          || (ch0 == ']' && off + 1 < end && s.charAt(off + 1) == '>')) {
-        out.write("]]><![CDATA[");
+    for (; st == CDATA_START || st == CDATA_START_BRACKET; ++i) {
+      if (i == end) { return st; }
+      char ch = s.charAt(i);
+      // Elide all NULs which are not strictly allowed in XML.
+      if (ch == 0) { continue; }
+      if (ch == ']' && st == CDATA_START) {
+        st = CDATA_START_BRACKET;
+        continue;
       }
+      if (ch == '>') { out.write(CDATA_SPLIT); }
+      if (st == CDATA_START_BRACKET) {
+        out.write(']');
+        st = CDATA_AFTER_BRACKET;
+      } else {
+        st = CDATA_AFTER_TEXT;
+      }
+      // Process ch below with the state after any held ']'.
+      break;
     }
-    for (int i = off; i < end - 2; ++i) {
-      if (s.charAt(i)== ']' && s.charAt(i + 1) == ']'
-          && s.charAt(i + 2) == '>') {
-        out.write(s, off, i - off);
-        out.write("]]]]><![CDATA[>");
-        i += 2;
-        off = i + 1;
+    int off = i;
+    for (; i < end; ++i) {
+      switch (s.charAt(i)) {
+        case 0:
+          // Elide all NULs which are not strictly allowed in XML.
+          out.write(s, off, i - off);
+          off = i + 1;
+          break;
+        case ']':
+          if (st != CDATA_AFTER_BRACKETS) { ++st; }
+          break;
+        case '>':
+          if (st == CDATA_AFTER_BRACKETS) {
+            out.write(s, off, i - off);
+            out.write(CDATA_SPLIT);
+            off = i;
+          }
+          st = CDATA_AFTER_TEXT;
+          break;
+        default:
+          st = CDATA_AFTER_TEXT;
+          break;
       }
     }
     out.write(s, off, end - off);
+    return st;
+  }
+
+  /**
+   * endCDATAOnto finishes a value escaped by {@link #escapeCDATAChunkOnto}.
+   * @param state the state returned for the last chunk.
+   */
+  static void endCDATAOnto(int state, Writer out) throws IOException {
     // Prevent the next character written to out from combining with trailing
-    // characters from s to form "]]>".
-    if (s.charAt(end - 1) == ']') {
-      out.write("]]><![CDATA[");
+    // characters from the value to form "]]>".
+    switch (state) {
+      case CDATA_START_BRACKET:
+        out.write(']');
+        out.write(CDATA_SPLIT);
+        break;
+      case CDATA_AFTER_BRACKET: case CDATA_AFTER_BRACKETS:
+        out.write(CDATA_SPLIT);
+        break;
+      default:
+        break;
     }
   }
 
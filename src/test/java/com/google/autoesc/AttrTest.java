@@ -0,0 +1,73 @@
+// Copyright (C) 2026 Google Inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.autoesc;
+
+import junit.framework.TestCase;
+
+@SuppressWarnings("javadoc")
+public final class AttrTest extends TestCase {
+
+  private static void assertAttrType(ContentType want, String name) {
+    // Twice so that the second may come from the cache.
+    for (int i = 0; i < 2; ++i) {
+      assertEquals(name, want, Attr.attrType(name));
+      String padded = "<" + name + "=";
+      assertEquals(
+          name, want, Attr.attrType(padded, 1, padded.length() - 1));
+      char[] chars = padded.toCharArray();
+      assertEquals(name, want, Attr.attrType(chars, 1, chars.length - 1));
+    }
+  }
+
+  public static final void testKnownAttrs() {
+    assertAttrType(ContentType.Plain, "title");
+    assertAttrType(ContentType.Plain, "TITLE");
+    assertAttrType(ContentType.URL, "href");
+    assertAttrType(ContentType.URL, "HRef");
+    assertAttrType(ContentType.CSS, "style");
+    assertAttrType(ContentType.Markup, "srcdoc");
+    assertAttrType(ContentType.Unsafe, "accept-charset");
+    assertAttrType(ContentType.Unsafe, "attributeName");
+    assertAttrType(ContentType.URL, "xmlns");
+    assertAttrType(ContentType.URL, "xmlns:svg");
+    assertAttrType(ContentType.URL, "xlink:href");
+    assertAttrType(ContentType.URL, "data-action");
+    assertAttrType(ContentType.Plain, "data-title");
+  }
+
+  public static final void testCustomAttrs() {
+    assertAttrType(ContentType.JS, "onclick");
+    assertAttrType(ContentType.JS, "OnMouseOver");
+    assertAttrType(ContentType.URL, "g:tweetUrl");
+    assertAttrType(ContentType.URL, "data-imgsrc");
+    assertAttrType(ContentType.URL, "data-URI");
+    assertAttrType(ContentType.Unsafe, "data-foo");
+    assertAttrType(ContentType.Unsafe, "titles");
+    assertAttrType(ContentType.Unsafe, "tit");
+    assertAttrType(ContentType.Unsafe, "");
+    StringBuilder longName = new StringBuilder("data-");
+    for (int i = 0; i < 100; ++i) { longName.append('x'); }
+    assertAttrType(ContentType.Unsafe, longName.toString());
+    assertAttrType(ContentType.URL, longName.append("-url").toString());
+  }
+
+  public static final void testCustomAttrCacheCollisions() {
+    // Many names share cache slots and must not be confused.
+    for (int i = 0; i < 2000; ++i) {
+      assertAttrType(ContentType.Unsafe, "x-" + i);
+      assertAttrType(ContentType.URL, "x-" + i + "-src");
+    }
+  }
+}
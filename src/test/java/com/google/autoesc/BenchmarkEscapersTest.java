@@ -355,6 +355,44 @@ public class BenchmarkEscapersTest extends TestCase {
     TestUtil.writeTable(cols.toArray());
   }
 
+  /** Query parameter values like those interpolated into links. */
+  private static final String[] QUERY_VALUES = {
+    "hello world", "caf\u00e9 & cr\u00e8me", "a/b?c=d#e", "foo%20bar",
+    "2011-10-18T22:14:05Z", "\u6307\u5b9a\u3055\u308c\u305f",
+    "user@example.com", "plain_ascii-value.1~2",
+  };
+
+  public static final void testURLEscaperSpeed() throws Exception {
+    // Warmup the JVM.
+    timeURLEscaper(Escaper.ESCAPE_URL);
+    timeURLEscaper(Escaper.NORMALIZE_URL);
+
+    System.out.println(
+        "URL escapers over " + N_RUNS + " runs of " + QUERY_VALUES.length
+        + " query values in us");
+    TestUtil.writeTable(
+        new Object[] { "", Escaper.ESCAPE_URL, Escaper.NORMALIZE_URL },
+        new Object[] {
+          "Time us",
+          timeURLEscaper(Escaper.ESCAPE_URL),
+          timeURLEscaper(Escaper.NORMALIZE_URL),
+        });
+  }
+
+  private static long timeURLEscaper(Escaper esc) throws Exception {
+    try (HTMLEscapingWriter w = new HTMLEscapingWriter(
+            HTMLEscapingWriter.DEV_NULL)) {
+      long t0 = System.nanoTime();
+      for (int j = N_RUNS; --j >= 0;) {
+        for (String v : QUERY_VALUES) {
+          w.writeUnsafe(v, 0, v.length(), esc);
+        }
+      }
+      long t1 = System.nanoTime();
+      return (t1 - t0) / 1000;
+    }
+  }
+
   private static final Object[] doTest(String testString, String name)
       throws Exception {
     // Run the escapers.
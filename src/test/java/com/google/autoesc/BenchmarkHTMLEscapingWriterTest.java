@@ -14,12 +14,42 @@
 
 package com.google.autoesc;
 
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringReader;
 import java.io.Writer;
 import java.io.StringWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.text.DecimalFormat;
 import java.text.NumberFormat;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+import javax.annotation.Nullable;
+
+import com.google.common.base.Strings;
+import com.google.common.io.ByteStreams;
+import com.google.common.io.CharStreams;
+import com.google.common.io.CountingOutputStream;
 
 import junit.framework.TestCase;
 
@@ -27,6 +57,7 @@ import junit.framework.TestCase;
 public final class BenchmarkHTMLEscapingWriterTest extends TestCase {
   static final int N_RUNS = 100;
   static final int N_ROWS = 10000;
+  static final int N_THREADS = 4;
 
   static final NumberFormat TWO_DEC_PLACES = new DecimalFormat("0.##");
 
@@ -49,6 +80,31 @@ public final class BenchmarkHTMLEscapingWriterTest extends TestCase {
     }
 
     assertEquals("second pass", sw1.toString(), sw2.toString());
+
+    StringWriter sw3 = new StringWriter();
+    try (HTMLEscapingWriter w3 = new HTMLEscapingWriter(sw3)) {
+      runSegments(w3);
+      runSegments(w3);
+    }
+    assertEquals("segments", sw1.toString(), sw3.toString());
+
+    StringWriter sw4 = new StringWriter();
+    StringWriter sw5 = new StringWriter();
+    ExecutorService executor = Executors.newFixedThreadPool(N_THREADS);
+    try {
+      try (HTMLEscapingWriter w4 = new HTMLEscapingWriter(sw4)) {
+        runRows(w4, null);
+        runRows(w4, null);
+      }
+      try (HTMLEscapingWriter w5 = new HTMLEscapingWriter(sw5)) {
+        runRows(w5, executor);
+        runRows(w5, executor);
+      }
+    } finally {
+      executor.shutdown();
+    }
+    assertEquals("rows", sw1.toString(), sw4.toString());
+    assertEquals("parallel rows", sw1.toString(), sw5.toString());
   }
 
   public static final void testWriteSafeSpeed() throws Exception {
@@ -57,6 +113,8 @@ public final class BenchmarkHTMLEscapingWriterTest extends TestCase {
     timeNormalString();
     timeNormalChars();
     timeMemoized();
+    timeSegments();
+    timeRows(null);
 
     List<Object> bmark = new ArrayList<>();
     List<Object> time = new ArrayList<>();
@@ -69,6 +127,16 @@ public final class BenchmarkHTMLEscapingWriterTest extends TestCase {
     long ns = timeNormalString();
     long nc = timeNormalChars();
     long mm = timeMemoized();
+    long sg = timeSegments();
+    long rr = timeRows(null);
+    long pr;
+    ExecutorService executor = Executors.newFixedThreadPool(N_THREADS);
+    try {
+      timeRows(executor);
+      pr = timeRows(executor);
+    } finally {
+      executor.shutdown();
+    }
 
     bmark.add("baseline");
     time.add(bl);
@@ -82,6 +150,15 @@ public final class BenchmarkHTMLEscapingWriterTest extends TestCase {
     bmark.add("memoized");
     time.add(mm);
     ratio.add(TWO_DEC_PLACES.format(mm / ((double) bl)));
+    bmark.add("segments");
+    time.add(sg);
+    ratio.add(TWO_DEC_PLACES.format(sg / ((double) bl)));
+    bmark.add("row renderer");
+    time.add(rr);
+    ratio.add(TWO_DEC_PLACES.format(rr / ((double) bl)));
+    bmark.add("rows x" + N_THREADS);
+    time.add(pr);
+    ratio.add(TWO_DEC_PLACES.format(pr / ((double) bl)));
 
     System.err.println(
         "\nTesting escape safe in us for " + N_RUNS + " runs of "
@@ -89,6 +166,791 @@ public final class BenchmarkHTMLEscapingWriterTest extends TestCase {
     TestUtil.writeTable(bmark.toArray(), time.toArray(), ratio.toArray());
   }
 
+  /** A tag with known, custom, and event handler attributes. */
+  private static final String ATTR_DENSE_TAG =
+      "<input type=text name=q id=q class=\"search wide\" value=\"\""
+      + " placeholder=Search autocomplete=off tabindex=1 data-track-id=7"
+      + " data-img-src=/x.png aria-label=Search ng-model=query"
+      + " onfocus=\"f()\" title=Search style=\"color: red\">";
+
+  public static final void testAttributeTypingSpeed() throws Exception {
+    // Warm up the JIT.
+    timeAttributeDense();
+    timeAttrType();
+    long t = timeAttributeDense();
+    long a = timeAttrType();
+    System.err.println(
+        "\nTesting attribute dense markup in us for " + N_RUNS + " runs of "
+        + (N_ROWS / 10) + " tags each");
+    TestUtil.writeTable(
+        new Object[] { "", "writeSafe", "attrType only" },
+        new Object[] { "Time us", t, a });
+  }
+
+  private static final String[] ATTR_DENSE_NAMES = {
+    "type", "name", "id", "class", "value", "placeholder", "autocomplete",
+    "tabindex", "data-track-id", "data-img-src", "aria-label", "ng-model",
+    "onfocus", "title", "style",
+  };
+
+  private static long timeAttrType() {
+    long t0 = System.nanoTime();
+    int n = 0;
+    for (int runs = N_RUNS; --runs >= 0;) {
+      for (int i = 0; i < N_ROWS / 10; ++i) {
+        for (String name : ATTR_DENSE_NAMES) {
+          n += Attr.attrType(name).ordinal();
+        }
+      }
+    }
+    long t1 = System.nanoTime();
+    assertTrue(n > 0);
+    return (t1 - t0) / 1000;
+  }
+
+  private static long timeAttributeDense() throws Exception {
+    long t0 = System.nanoTime();
+    for (int runs = N_RUNS; --runs >= 0;) {
+      try (HTMLEscapingWriter w = new HTMLEscapingWriter(
+               CharStreams.nullWriter())) {
+        for (int i = 0; i < N_ROWS / 10; ++i) {
+          w.writeSafe(ATTR_DENSE_TAG);
+        }
+      }
+    }
+    long t1 = System.nanoTime();
+    return (t1 - t0) / 1000;
+  }
+
+  private static final String ATTR_ROW_START =
+      "<li><a href=\"/item?lang=en&amp;sort=asc&amp;id=",
+      ATTR_ROW_MID = "\" title=\"Item &#8470;&nbsp;",
+      ATTR_ROW_END = "\" data-x=\"a&lt;b\">More&hellip;</a></li>";
+
+  /**
+   * Reports the bytes allocated per render of rows whose attribute values
+   * contain entities.
+   */
+  public static final void testAttributeAllocation() throws Exception {
+    Method allocatedBytes = threadAllocatedBytesMethod();
+    if (allocatedBytes == null) { return; }
+    ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    long tid = Thread.currentThread().getId();
+    // Warm up the JIT.
+    for (int runs = N_RUNS; --runs >= 0;) {
+      renderAttributeRows();
+    }
+    long a0 = (Long) allocatedBytes.invoke(threads, tid);
+    for (int runs = N_RUNS; --runs >= 0;) {
+      renderAttributeRows();
+    }
+    long a1 = (Long) allocatedBytes.invoke(threads, tid);
+    System.err.println(
+        "\nTesting allocation for " + N_RUNS + " runs of " + N_ROWS
+        + " rows with entities in attributes");
+    TestUtil.writeTable(
+        new Object[] { "", "entities in attrs" },
+        new Object[] { "bytes/run", (a1 - a0) / N_RUNS });
+  }
+
+  /**
+   * ThreadMXBean.getThreadAllocatedBytes(long) of the HotSpot extension of
+   * the interface, or null if the JVM does not provide it.
+   */
+  private static @Nullable Method threadAllocatedBytesMethod() {
+    try {
+      Class<?> hotSpotBean = Class.forName("com.sun.management.ThreadMXBean");
+      if (!hotSpotBean.isInstance(ManagementFactory.getThreadMXBean())) {
+        return null;
+      }
+      return hotSpotBean.getMethod("getThreadAllocatedBytes", long.class);
+    } catch (@SuppressWarnings("unused") ReflectiveOperationException ex) {
+      return null;
+    }
+  }
+
+  private static void renderAttributeRows() throws Exception {
+    try (HTMLEscapingWriter w = new HTMLEscapingWriter(
+             CharStreams.nullWriter())) {
+      w.writeSafe("<ul>");
+      for (int i = 0; i < N_ROWS; ++i) {
+        w.writeSafe(ATTR_ROW_START);
+        w.write(Integer.valueOf(i));
+        w.writeSafe(ATTR_ROW_MID);
+        w.write(Integer.valueOf(i));
+        w.writeSafe(ATTR_ROW_END);
+      }
+      w.writeSafe("</ul>");
+    }
+  }
+
+  /** Untrusted link targets interpolated into URL dense markup. */
+  private static final Object[] LINK_URLS = {
+    "https://example.com/a?b=c", "/relative/path", "tel:+1-555-0100",
+    new StringBuilder("sms:+15550100"), "mailto:foo@example.com",
+    "javascript:alert(1337)", "com.example.app://open?id=7", "?q=x",
+  };
+
+  private static final SchemeAllowlist APP_SCHEMES = SchemeAllowlist.of(
+      "http", "https", "mailto", "tel", "sms", "com.example.app");
+
+  public static final void testURLDenseSpeed() throws Exception {
+    // Warm up the JIT.
+    timeURLDense(SchemeAllowlist.DEFAULT);
+    timeURLDense(APP_SCHEMES);
+    long d = timeURLDense(SchemeAllowlist.DEFAULT);
+    long a = timeURLDense(APP_SCHEMES);
+    System.err.println(
+        "\nTesting URL dense markup in us for " + N_RUNS + " runs of "
+        + N_ROWS + " links each");
+    TestUtil.writeTable(
+        new Object[] { "", "default schemes", APP_SCHEMES.toString() },
+        new Object[] { "Time us", d, a });
+  }
+
+  private static long timeURLDense(SchemeAllowlist schemes) throws Exception {
+    long t0 = System.nanoTime();
+    for (int runs = N_RUNS; --runs >= 0;) {
+      try (HTMLEscapingWriter w = new HTMLEscapingWriter(
+               CharStreams.nullWriter())) {
+        w.setSchemeAllowlist(schemes);
+        for (int i = 0; i < N_ROWS; ++i) {
+          w.writeSafe("<a href=\"");
+          w.write(LINK_URLS[i % LINK_URLS.length]);
+          w.writeSafe("\">link</a>");
+        }
+      }
+    }
+    long t1 = System.nanoTime();
+    return (t1 - t0) / 1000;
+  }
+
+  /** Untrusted colors and sizes interpolated into style attributes. */
+  private static final String[] STYLE_VALUES = {
+    "#48f", "red", "12px", "1.25em", "rgb", "\\23 fff", "-moz-box",
+    "expression", "100%", "corner-radius",
+  };
+
+  public static final void testStyleDenseSpeed() throws Exception {
+    // Warm up the JIT.
+    timeStyleDense();
+    long t = timeStyleDense();
+    System.err.println(
+        "\nTesting style attribute dense markup in us for " + N_RUNS
+        + " runs of " + N_ROWS + " tags each");
+    TestUtil.writeTable(
+        new Object[] { "", "filtered values" },
+        new Object[] { "Time us", t });
+  }
+
+  private static long timeStyleDense() throws Exception {
+    long t0 = System.nanoTime();
+    for (int runs = N_RUNS; --runs >= 0;) {
+      try (HTMLEscapingWriter w = new HTMLEscapingWriter(
+               CharStreams.nullWriter())) {
+        for (int i = 0; i < N_ROWS; ++i) {
+          w.writeSafe("<span style=\"color: ");
+          w.write(STYLE_VALUES[i % STYLE_VALUES.length]);
+          w.writeSafe("; font-size: ");
+          w.write(STYLE_VALUES[(i + 3) % STYLE_VALUES.length]);
+          w.writeSafe("; font-family: '");
+          w.write(STYLE_VALUES[(i + 7) % STYLE_VALUES.length]);
+          w.writeSafe("'\">x</span>");
+        }
+      }
+    }
+    long t1 = System.nanoTime();
+    return (t1 - t0) / 1000;
+  }
+
+  /** The number of items in the feed written by testXMLFeedSpeed. */
+  static final int FEED_ITEMS = 2000;
+
+  /**
+   * Writes an RSS feed whose item titles are XML text and whose item
+   * descriptions are large CDATA bodies.
+   */
+  public static final void testXMLFeedSpeed() throws Exception {
+    StringBuilder sb = new StringBuilder();
+    while (sb.length() < (16 << 10)) {
+      sb.append("<p>Fish & chips</p> are <b>great</b>; a[i]]>b ");
+    }
+    String body = sb.toString();
+    // Warm up the JIT.
+    timeXMLFeed(body, false);
+    timeXMLFeed(body, true);
+    long strings = timeXMLFeed(body, false);
+    long readers = timeXMLFeed(body, true);
+    long chars = (long) FEED_ITEMS * body.length();
+    System.err.println(
+        "\nTesting XML feed of " + FEED_ITEMS + " items with "
+        + body.length() + " char CDATA bodies in us");
+    TestUtil.writeTable(
+        new Object[] { "", "Time us", "chars/us" },
+        new Object[] { "String bodies", strings, chars / Math.max(1, strings) },
+        new Object[] { "Reader bodies", readers, chars / Math.max(1, readers) });
+  }
+
+  private static long timeXMLFeed(String body, boolean useReader)
+      throws Exception {
+    long t0 = System.nanoTime();
+    HTMLEscapingWriter w = new HTMLEscapingWriter(CharStreams.nullWriter());
+    w.writeSafe("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<rss><channel>");
+    for (int i = 0; i < FEED_ITEMS; ++i) {
+      w.writeSafe("<item><title>");
+      w.write("Item #" + i + " <new> & improved");
+      w.writeSafe("</title><description><![CDATA[");
+      if (useReader) {
+        w.write(new StringReader(body));
+      } else {
+        w.write(body);
+      }
+      w.writeSafe("]]></description></item>\n");
+    }
+    w.writeSafe("</channel></rss>");
+    w.flush();
+    long t1 = System.nanoTime();
+    return (t1 - t0) / 1000;
+  }
+
+  /** The number of chars in the document written by testLargeXMLFeedMemory. */
+  static final long LARGE_FEED_CHARS = 1L << 30;
+
+  /** The most that the heap retained may grow while writing a large feed. */
+  static final long MAX_FEED_HEAP_GROWTH = 8L << 20;
+
+  /**
+   * Writes a sitemap of about 1G chars to a byte channel and checks that the
+   * heap retained after a collection does not grow with the document.
+   */
+  public static final void testLargeXMLFeedMemory() throws Exception {
+    long heapBefore = heapUsedAfterGC();
+    long maxHeap = heapBefore;
+    long chars = 0;
+    long t0 = System.nanoTime();
+    try (HTMLEscapingWriter w = HTMLEscapingWriter.forXML(
+        new Utf8ChannelWriter(
+            Channels.newChannel(ByteStreams.nullOutputStream())))) {
+      w.writeSafe("<urlset>");
+      for (int i = 0; chars < LARGE_FEED_CHARS; ++i) {
+        String loc = "http://example.com/products/" + i + "?q=fish&chips";
+        String title = "Product #" + i + " <new> & improved caf\u00e9";
+        w.writeSafe("<url><loc>");
+        w.write(loc);
+        w.writeSafe("</loc><title>");
+        w.write(title);
+        w.writeSafe("</title></url>\n");
+        chars += 38 + loc.length() + title.length();
+        if ((i & 0xfffff) == 0) {
+          maxHeap = Math.max(maxHeap, heapUsedAfterGC());
+        }
+      }
+      w.writeSafe("</urlset>");
+      maxHeap = Math.max(maxHeap, heapUsedAfterGC());
+    }
+    long t1 = System.nanoTime();
+    long micros = (t1 - t0) / 1000;
+    System.err.println(
+        "\nTesting XML feed of " + chars + " chars to a byte channel");
+    TestUtil.writeTable(
+        new Object[] { "", "Time us", "chars/us", "Max heap growth KB" },
+        new Object[] {
+          "Feed", micros, chars / Math.max(1, micros),
+          (maxHeap - heapBefore) >> 10 });
+    assertTrue(
+        "heap grew by " + (maxHeap - heapBefore),
+        maxHeap - heapBefore < MAX_FEED_HEAP_GROWTH);
+  }
+
+  /**
+   * The bytes in heap pools just after a full collection, so that garbage
+   * that has not been collected yet is not counted.
+   */
+  private static long heapUsedAfterGC() {
+    System.gc();
+    long used = 0;
+    for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+      MemoryUsage usage = pool.getCollectionUsage();
+      if (pool.getType() == MemoryType.HEAP && usage != null) {
+        used += usage.getUsed();
+      }
+    }
+    return used;
+  }
+
+  static final int N_GZIP_PAGES = 2000;
+
+  /**
+   * Renders a page whose navigation and footer are long constants, onto
+   * a {@link Utf8ChannelWriter} that compresses either via a
+   * {@link GZIPOutputStream} or via a {@link GzipChannel} that splices in
+   * the constants' shared compressed forms.
+   */
+  public static final void testGzipStage() throws Exception {
+    StringBuilder navBuf = new StringBuilder("<nav><ul>");
+    StringBuilder footerBuf = new StringBuilder("<footer>");
+    for (int i = 0; i < 60; ++i) {
+      navBuf.append("<li><a class=\"nav-")
+          .append(Integer.toString(i * 7919, 36))
+          .append("\" href=\"/s/").append(i * 31).append("\">Section ")
+          .append(Integer.toString(i * 104729, 36)).append("</a></li>\n");
+      footerBuf.append("<p>").append(Integer.toString(i * 15485863, 36))
+          .append(" terms, privacy &amp; help #").append(i).append("</p>\n");
+    }
+    String nav = navBuf.append("</ul></nav>").toString();
+    String footer = footerBuf.append("</footer></body></html>").toString();
+    Object[][] table = new Object[3][];
+    table[0] = new Object[] {
+        "", "Time us/page", "Compressed bytes/page", "Spliced bytes/page" };
+    for (int k = 0; k < 2; ++k) {
+      boolean splice = k == 1;
+      long bestMicros = Long.MAX_VALUE;
+      long compressed = 0;
+      long spliced = 0;
+      for (int run = 0; run < 5; ++run) {
+        compressed = spliced = 0;
+        long t0 = System.nanoTime();
+        for (int page = 0; page < N_GZIP_PAGES; ++page) {
+          CountingOutputStream bytes = new CountingOutputStream(
+              ByteStreams.nullOutputStream());
+          GzipChannel gz = null;
+          WritableByteChannel channel;
+          if (splice) {
+            channel = gz = new GzipChannel(Channels.newChannel(bytes));
+          } else {
+            channel = Channels.newChannel(new GZIPOutputStream(bytes));
+          }
+          try (HTMLEscapingWriter w = new MemoizingHTMLEscapingWriter(
+                   new Utf8ChannelWriter(channel, 1 << 13))) {
+            w.writeSafe("<html><body>");
+            w.writeSafe(nav);
+            w.writeSafe("<ul>");
+            for (int i = 0; i < 20; ++i) {
+              w.writeSafe("<li><a href=\"/item?id=");
+              w.write(page * 20 + i);
+              w.writeSafe("\">");
+              w.write("Item <" + i + "> & friends");
+              w.writeSafe("</a></li>");
+            }
+            w.writeSafe("</ul>");
+            w.writeSafe(footer);
+          }
+          compressed += bytes.getCount();
+          if (gz != null) { spliced += gz.getPrecompressedByteCount(); }
+        }
+        bestMicros = Math.min(bestMicros, (System.nanoTime() - t0) / 1000);
+      }
+      table[k + 1] = new Object[] {
+          splice ? "GzipChannel" : "GZIPOutputStream",
+          TWO_DEC_PLACES.format(bestMicros / (double) N_GZIP_PAGES),
+          compressed / N_GZIP_PAGES, spliced / N_GZIP_PAGES };
+    }
+    System.err.println("\nTesting gzip of " + N_GZIP_PAGES + " pages");
+    TestUtil.writeTable((Object[]) table);
+  }
+
+  static final int N_ASSEMBLED_PAGES = 2000;
+
+  /** Discards bytes. */
+  static final class NullChannel implements GatheringByteChannel {
+    long nBytes;
+
+    @Override
+    public int write(ByteBuffer src) {
+      int n = src.remaining();
+      src.position(src.limit());
+      nBytes += n;
+      return n;
+    }
+
+    @Override
+    public long write(ByteBuffer[] srcs, int offset, int length) {
+      long n = 0;
+      for (int i = offset; i < offset + length; ++i) { n += write(srcs[i]); }
+      return n;
+    }
+
+    @Override
+    public long write(ByteBuffer[] srcs) {
+      return write(srcs, 0, srcs.length);
+    }
+
+    @Override
+    public boolean isOpen() { return true; }
+
+    @Override
+    public void close() { /* no-op */ }
+  }
+
+  /**
+   * Assembles pages from memoized constants, cached fragments and escaped
+   * values, and writes each as UTF-8 to a channel, either via a
+   * {@link StringWriter} or via a {@link SegmentWriter}.
+   * Chars copied counts each char copied into a buffer, out of one, or
+   * encoded: for a StringWriter, that is the chars written, the chars moved
+   * when its buffer grows, the copy made by toString, and the encoding; for
+   * a SegmentWriter, the chars copied into blocks and their encoding.
+   */
+  public static final void testSegmentAssembly() throws Exception {
+    StringBuilder navBuf = new StringBuilder("<nav><ul>");
+    for (int i = 0; i < 60; ++i) {
+      navBuf.append("<li><a href=\"/s/").append(i).append("\">Section ")
+          .append(Integer.toString(i * 104729, 36)).append("</a></li>\n");
+    }
+    String nav = navBuf.append("</ul></nav>").toString();
+    FragmentCache cache = new FragmentCache(1 << 24);
+    NullChannel channel = new NullChannel();
+    Object[][] table = new Object[3][];
+    table[0] = new Object[] { "", "Time us/page", "Chars copied/page" };
+    for (int k = 0; k < 2; ++k) {
+      boolean segmented = k == 1;
+      long bestMicros = Long.MAX_VALUE;
+      long copied = 0;
+      for (int run = 0; run < 5; ++run) {
+        copied = 0;
+        long t0 = System.nanoTime();
+        for (int page = 0; page < N_ASSEMBLED_PAGES; ++page) {
+          Writer buf = segmented ? new SegmentWriter() : new StringWriter();
+          try (HTMLEscapingWriter w = new MemoizingHTMLEscapingWriter(buf)) {
+            w.writeSafe("<html><body>");
+            w.writeSafe(nav);
+            for (int i = 0; i < 50; ++i) {
+              final int product = i;
+              w.writeSafe("<div class=\"product\" title=\"");
+              w.write("Product #" + (page * 50 + i) + " <new>");
+              w.writeSafe("\">");
+              cache.writeTo(w, product, new ParallelRenderer.Fragment() {
+                @Override
+                public void writeTo(HTMLEscapingWriter fw) throws IOException {
+                  fw.writeSafe("<div class=\"card\"><h2>");
+                  fw.write("Product " + product + " & accessories");
+                  fw.writeSafe("</h2><p>");
+                  fw.write(Strings.repeat("A fine product. ", 8));
+                  fw.writeSafe("</p><a href=\"/buy?id=");
+                  fw.write(product);
+                  fw.writeSafe("\">Buy now</a></div>");
+                }
+              });
+              w.writeSafe("</div>");
+            }
+            w.writeSafe(nav);
+            w.writeSafe("</body></html>");
+          }
+          if (segmented) {
+            SegmentWriter sw = (SegmentWriter) buf;
+            sw.writeTo(channel);
+            copied += 2 * sw.getCopiedCharCount();
+          } else {
+            StringBuffer sb = ((StringWriter) buf).getBuffer();
+            int len = sb.length();
+            channel.write(ByteBuffer.wrap(
+                sb.toString().getBytes(StandardCharsets.UTF_8)));
+            copied += 3L * len;
+            // StringBuffer grows from 16 chars to twice its size plus 2.
+            for (int cap = 16; cap < len; cap = cap * 2 + 2) { copied += cap; }
+          }
+        }
+        bestMicros = Math.min(bestMicros, (System.nanoTime() - t0) / 1000);
+      }
+      table[k + 1] = new Object[] {
+          segmented ? "SegmentWriter" : "StringWriter",
+          TWO_DEC_PLACES.format(bestMicros / (double) N_ASSEMBLED_PAGES),
+          copied / N_ASSEMBLED_PAGES };
+    }
+    System.err.println(
+        "\nTesting assembly of " + N_ASSEMBLED_PAGES + " pages");
+    TestUtil.writeTable((Object[]) table);
+  }
+
+  /** The length of the page written by testParallelWriteSafe. */
+  static final int LARGE_SAFE_CHARS = 1 << 24;
+
+  /**
+   * Writes a 16M char static page via one writeSafe call, serially and via
+   * {@link ParallelRenderer#writeSafe}.
+   */
+  public static final void testParallelWriteSafe() throws Exception {
+    StringBuilder sb = new StringBuilder(LARGE_SAFE_CHARS + 1024);
+    for (int i = 0; sb.length() < LARGE_SAFE_CHARS; ++i) {
+      sb.append("<div class=\"row\"><h3 id=sec-").append(i)
+          .append(">Section ").append(i).append(" &amp; more</h3>")
+          .append("<p title='Hello, World'>Lorem ipsum dolor sit amet, ")
+          .append("consectetur adipiscing elit.<br><a href=\"/p/").append(i)
+          .append("?q=a&amp;b\">Read more</a></p>\n");
+      if (i % 100 == 0) {
+        sb.append("<script>if (x > ").append(i).append(") { f(); }</script>");
+      }
+      sb.append("</div>\n");
+    }
+    String page = sb.toString();
+    ForkJoinPool pool = new ForkJoinPool(N_THREADS);
+    try {
+      long[] bestMicros = { Long.MAX_VALUE, Long.MAX_VALUE };
+      String[] outputs = new String[2];
+      for (int run = 0; run < 5; ++run) {
+        for (int k = 0; k < 2; ++k) {
+          StringWriter buf = new StringWriter(page.length() + 1024);
+          long t0 = System.nanoTime();
+          try (HTMLEscapingWriter w = new HTMLEscapingWriter(buf)) {
+            if (k == 0) {
+              w.writeSafe(page);
+            } else {
+              ParallelRenderer.writeSafe(w, page, pool);
+            }
+          }
+          bestMicros[k] = Math.min(
+              bestMicros[k], (System.nanoTime() - t0) / 1000);
+          outputs[k] = buf.toString();
+        }
+      }
+      assertEquals(outputs[0], outputs[1]);
+      System.err.println(
+          "\nTesting writeSafe of " + page.length() + " chars on "
+          + N_THREADS + " threads");
+      TestUtil.writeTable(
+          new Object[] { "", "Time us", "chars/us" },
+          new Object[] {
+            "Serial", bestMicros[0], page.length() / bestMicros[0] },
+          new Object[] {
+            "Parallel", bestMicros[1], page.length() / bestMicros[1] });
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  /** The number of renders in flight at once in testNonBlockingRenderLoad. */
+  static final int N_CONCURRENT_RENDERS = 100000;
+  static final int RENDER_LOAD_ROWS = 20;
+
+  /**
+   * Starts 100K renders at once on a few threads.  Each renders onto a
+   * {@link ChunkedWriter} whose sink consumes chunks on a separate "network"
+   * thread, and yields its thread whenever the sink falls behind instead of
+   * blocking, as a reactive server would.
+   */
+  public static final void testNonBlockingRenderLoad() throws Exception {
+    final ExecutorService renderers = new ForkJoinPool(N_THREADS);
+    final ExecutorService network = Executors.newFixedThreadPool(2);
+    final ChunkedWriter.Pool pool = new ChunkedWriter.Pool(1 << 9, 1 << 14);
+    final CountDownLatch done = new CountDownLatch(N_CONCURRENT_RENDERS);
+    final AtomicLong nChars = new AtomicLong();
+    final AtomicLong nYields = new AtomicLong();
+    final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    /** A render that runs in steps while its writer is writable. */
+    final class Render implements Runnable {
+      private final ChunkedWriter cw;
+      private final HTMLEscapingWriter w;
+      private int row = -1;
+
+      Render() {
+        this.cw = new ChunkedWriter(
+            new ChunkedWriter.Sink() {
+              @Override
+              public void onChunk(final ChunkedWriter.Chunk chunk) {
+                network.execute(new Runnable() {
+                  @Override
+                  public void run() {
+                    nChars.addAndGet(chunk.length());
+                    chunk.release();
+                    cw.request(1);
+                  }
+                });
+              }
+
+              @Override
+              public void onComplete() {
+                done.countDown();
+              }
+            },
+            pool, 2);
+        this.w = new HTMLEscapingWriter(cw);
+        cw.request(2);
+      }
+
+      @Override
+      public void run() {
+        try {
+          if (row < 0) {
+            w.writeSafe("<table>");
+            row = 0;
+          }
+          for (; row < RENDER_LOAD_ROWS; ++row) {
+            if (!cw.isWritable()) {
+              nYields.incrementAndGet();
+              cw.onWritable(new Runnable() {
+                @Override
+                public void run() { renderers.execute(Render.this); }
+              });
+              return;
+            }
+            w.writeSafe("<tr><td><a href=\"/item?id=");
+            w.write(row);
+            w.writeSafe("\" title=\"");
+            w.write("Item <" + row + "> & more");
+            w.writeSafe("\">");
+            w.write("Fish & chips, 'n' <b>peas</b>");
+            w.writeSafe("</a></td></tr>\n");
+          }
+          w.writeSafe("</table>");
+          w.close();
+        } catch (Throwable th) {
+          failure.compareAndSet(null, th);
+          done.countDown();
+        }
+      }
+    }
+
+    long t0 = System.nanoTime();
+    try {
+      for (int i = 0; i < N_CONCURRENT_RENDERS; ++i) {
+        renderers.execute(new Render());
+      }
+      assertTrue(done.await(10, TimeUnit.MINUTES));
+    } finally {
+      renderers.shutdown();
+      network.shutdown();
+    }
+    long t1 = System.nanoTime();
+    if (failure.get() != null) { throw new AssertionError(failure.get()); }
+    long micros = (t1 - t0) / 1000;
+    System.err.println(
+        "\nTesting " + N_CONCURRENT_RENDERS + " concurrent non-blocking"
+        + " renders on " + N_THREADS + " threads");
+    TestUtil.writeTable(
+        new Object[] {
+          "", "Time us", "chars/us", "Yields", "Buffers allocated" },
+        new Object[] {
+          "Renders", micros, nChars.get() / Math.max(1, micros), nYields.get(),
+          pool.getAllocationCount() });
+  }
+
+  /** Size of the document written in slices by testSlicedWriteSpeed. */
+  static final int SLICED_DOC_CHARS = 10 << 20;
+  static final int SLICE_CHARS = 1 << 10;
+  /** Size of each script and comment in the sliced document. */
+  static final int SLICED_BLOCK_CHARS = 1 << 20;
+
+  /**
+   * Writes a large document in small slices of one string where the slices
+   * fall inside long scripts and comments, so any search for the end of the
+   * script or comment that is not bounded by the slice is quadratic.
+   */
+  public static final void testSlicedWriteSpeed() throws Exception {
+    StringBuilder sb = new StringBuilder(SLICED_DOC_CHARS + SLICED_BLOCK_CHARS);
+    for (int i = 0; sb.length() < SLICED_DOC_CHARS; ++i) {
+      boolean isScript = (i & 1) == 0;
+      sb.append(isScript ? "<script>" : "<!--");
+      int blockEnd = sb.length() + SLICED_BLOCK_CHARS;
+      while (sb.length() < blockEnd) {
+        sb.append(isScript ? "var x = a < b ? '-' : c > d;\n" : "- > <p> -\n");
+      }
+      sb.append(isScript ? "</script>" : "-->");
+    }
+    String doc = sb.toString();
+
+    // Warm up the JIT.
+    timeSlicedWrite(doc, SLICE_CHARS);
+    long whole = timeSlicedWrite(doc, doc.length());
+    long sliced = timeSlicedWrite(doc, SLICE_CHARS);
+    System.err.println(
+        "\nTesting writeSafe in us of " + doc.length() + " chars in slices");
+    TestUtil.writeTable(
+        new Object[] { "", "whole", SLICE_CHARS + " char slices" },
+        new Object[] { "Time us", whole, sliced });
+  }
+
+  private static long timeSlicedWrite(String doc, int sliceChars)
+      throws Exception {
+    long t0 = System.nanoTime();
+    try (HTMLEscapingWriter w = new HTMLEscapingWriter(
+             CharStreams.nullWriter())) {
+      for (int off = 0, n = doc.length(); off < n; off += sliceChars) {
+        w.writeSafe(doc, off, Math.min(n, off + sliceChars));
+      }
+    }
+    long t1 = System.nanoTime();
+    return (t1 - t0) / 1000;
+  }
+
+  /** Approximate size of the report rendered by testParallelFragmentSpeed. */
+  static final int REPORT_CHARS = 50 << 20;
+  static final int REPORT_SECTIONS = 200;
+  static final String REPORT_ROW_START = "<tr><td>",
+      REPORT_ROW_MID = "</td><td><a href=\"/item?id=",
+      REPORT_ROW_END = "\">Details &amp; history</a></td></tr>\n";
+  /** Size of a report row with a 5 digit id. */
+  static final int REPORT_ROW_CHARS = REPORT_ROW_START.length()
+      + REPORT_ROW_MID.length() + REPORT_ROW_END.length() + 10;
+
+  public static final void testParallelFragmentSpeed() throws Exception {
+    List<ParallelRenderer.Fragment> sections = new ArrayList<>();
+    final int rowsPerSection =
+        REPORT_CHARS / (REPORT_SECTIONS * REPORT_ROW_CHARS);
+    for (int i = 0; i < REPORT_SECTIONS; ++i) {
+      final int section = i;
+      sections.add(new ParallelRenderer.Fragment() {
+        @Override
+        public void writeTo(HTMLEscapingWriter w) throws IOException {
+          w.writeSafe("<h2>Section ");
+          w.write(Integer.valueOf(section));
+          w.writeSafe("</h2><table>");
+          for (int j = 0; j < rowsPerSection; ++j) {
+            int id = 10000 + j;
+            w.writeSafe(REPORT_ROW_START);
+            w.write(Integer.valueOf(id));
+            w.writeSafe(REPORT_ROW_MID);
+            w.write(Integer.valueOf(id));
+            w.writeSafe(REPORT_ROW_END);
+          }
+          w.writeSafe("</table>");
+        }
+      });
+    }
+
+    ForkJoinPool pool = new ForkJoinPool();
+    try {
+      // Warm up the JIT.
+      timeReport(sections, null);
+      timeReport(sections, pool);
+
+      long serial = timeReport(sections, null);
+      long parallel = timeReport(sections, pool);
+      System.err.println(
+          "\nTesting report of " + (REPORT_CHARS >> 20) + "M chars in "
+          + REPORT_SECTIONS + " sections on "
+          + pool.getParallelism() + " threads");
+      TestUtil.writeTable(
+          new Object[] { "", "serial", "parallel" },
+          new Object[] { "Time us", serial, parallel },
+          new Object[] {
+            "t/serial", 1,
+            TWO_DEC_PLACES.format(parallel / ((double) serial)) });
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  private static long timeReport(
+      List<ParallelRenderer.Fragment> sections, ForkJoinPool pool)
+      throws Exception {
+    long t0 = System.nanoTime();
+    try (HTMLEscapingWriter w = new HTMLEscapingWriter(
+             CharStreams.nullWriter())) {
+      w.writeSafe("<html><body>");
+      if (pool == null) {
+        for (ParallelRenderer.Fragment section : sections) {
+          section.writeTo(w);
+        }
+      } else {
+        ParallelRenderer.render(w, sections, pool);
+      }
+      w.writeSafe("</body></html>");
+    }
+    long t1 = System.nanoTime();
+    return (t1 - t0) / 1000;
+  }
+
   private static long timeBaseline() throws Exception {
     long t0 = System.nanoTime();
     for (int runs = N_RUNS; --runs >= 0;) {
@@ -136,6 +998,30 @@ public final class BenchmarkHTMLEscapingWriterTest extends TestCase {
     return (t1 - t0) / 1000;
   }
 
+  private static long timeSegments() throws Exception {
+    long t0 = System.nanoTime();
+    for (int runs = N_RUNS; --runs >= 0;) {
+      StringWriter sw = new StringWriter();
+      try (HTMLEscapingWriter w = new HTMLEscapingWriter(sw)) {
+        runSegments(w);
+      }
+    }
+    long t1 = System.nanoTime();
+    return (t1 - t0) / 1000;
+  }
+
+  private static long timeRows(ExecutorService executor) throws Exception {
+    long t0 = System.nanoTime();
+    for (int runs = N_RUNS; --runs >= 0;) {
+      StringWriter sw = new StringWriter();
+      try (HTMLEscapingWriter w = new HTMLEscapingWriter(sw)) {
+        runRows(w, executor);
+      }
+    }
+    long t1 = System.nanoTime();
+    return (t1 - t0) / 1000;
+  }
+
   private static final String
       HEADER = "<html><head><title>Benchmark</title></head><body><ul>",
       ROW_START = "<li onclick=picked(",
@@ -170,6 +1056,97 @@ public final class BenchmarkHTMLEscapingWriterTest extends TestCase {
     w.flush();
   }
 
+  /** Bit i is set iff the i-th part written by runSegments is safe. */
+  private static final BitSet SEGMENTS_SAFE_MASK = new BitSet();
+  static {
+    SEGMENTS_SAFE_MASK.set(0);
+    for (int i = 0; i < N_ROWS; ++i) {
+      SEGMENTS_SAFE_MASK.set(1 + i * 3);
+      SEGMENTS_SAFE_MASK.set(3 + i * 3);
+    }
+    SEGMENTS_SAFE_MASK.set(1 + N_ROWS * 3);
+  }
+
+  private static void runSegments(HTMLEscapingWriter w) throws Exception {
+    Object[] parts = new Object[2 + N_ROWS * 3];
+    int k = 0;
+    parts[k++] = HEADER;
+    for (int i = 0; i < N_ROWS; ++i) {
+      parts[k++] = ROW_START;
+      parts[k++] = Integer.valueOf(i);
+      parts[k++] = ROW_END;
+    }
+    parts[k++] = FOOTER;
+    w.writeSegments(parts, SEGMENTS_SAFE_MASK);
+    w.flush();
+  }
+
+  /**
+   * Renders rows via a {@link RowRenderer}, in parallel batches if executor
+   * is not null.
+   */
+  private static void runRows(HTMLEscapingWriter w, ExecutorService executor)
+      throws Exception {
+    w.writeSafe(HEADER);
+    RowRenderer r = new RowRenderer(w, ROW_START, ROW_END);
+    if (executor == null) {
+      for (int i = 0; i < N_ROWS; ++i) {
+        r.writeRow(w, Integer.valueOf(i));
+      }
+    } else {
+      List<Object[]> rows = new ArrayList<>(N_ROWS);
+      for (int i = 0; i < N_ROWS; ++i) {
+        rows.add(new Object[] { Integer.valueOf(i) });
+      }
+      r.writeRows(w, rows, executor, N_ROWS / (N_THREADS * 4));
+    }
+    w.writeSafe(FOOTER);
+    w.flush();
+  }
+
+  /** A value that legacy code prints char by char. */
+  static final String PRINTED_VALUE
+      = "Fish & \"chips\" <b>caf\u00e9</b> see /menu?q=a%20b&lang=en";
+
+  /**
+   * Prints values via {@link PrintWriter#print(char)} as legacy code that
+   * predates the writer does, and compares to writing each value at once.
+   */
+  public static final void testCharByCharWriteSpeed() throws Exception {
+    // Warm up the JIT.
+    timeCharByCharWrite(false);
+    timeCharByCharWrite(true);
+    long whole = timeCharByCharWrite(false);
+    long byChar = timeCharByCharWrite(true);
+    System.err.println(
+        "\nTesting write(int) in us of " + N_ROWS + " values by char");
+    TestUtil.writeTable(
+        new Object[] { "", "whole", "by char" },
+        new Object[] { "Time us", whole, byChar });
+  }
+
+  @SuppressWarnings("resource")  // Closed via w
+  private static long timeCharByCharWrite(boolean byChar) throws Exception {
+    long t0 = System.nanoTime();
+    try (HTMLEscapingWriter w = new HTMLEscapingWriter(
+             CharStreams.nullWriter())) {
+      PrintWriter pw = new PrintWriter(w);
+      for (int i = 0; i < N_ROWS; ++i) {
+        w.writeSafe("<tr><td title=\"");
+        if (byChar) {
+          for (int j = 0, n = PRINTED_VALUE.length(); j < n; ++j) {
+            pw.print(PRINTED_VALUE.charAt(j));
+          }
+        } else {
+          pw.print(PRINTED_VALUE);
+        }
+        w.writeSafe("\">Row</td></tr>\n");
+      }
+    }
+    long t1 = System.nanoTime();
+    return (t1 - t0) / 1000;
+  }
+
   private static void runBaseline(Writer w) throws Exception {
     w.write(HEADER_CHARS, 0, HEADER_CHARS.length);
     for (int i = 0; i < N_ROWS; ++i) {
@@ -0,0 +1,99 @@
+// Copyright (C) 2026 Google Inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.autoesc;
+
+import java.io.File;
+import java.io.InputStreamReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.google.common.io.CharStreams;
+
+import junit.framework.TestCase;
+
+/**
+ * Measures the time to first render in a fresh JVM, which is dominated by
+ * class initialization.
+ */
+@SuppressWarnings("javadoc")
+public final class BenchmarkStartupTest extends TestCase {
+  static final int N_RUNS = 5;
+
+  private static final String[][] TEMPLATES = {
+    { "plain", "<a href=\"/search?q=", "\" title=\"", "\">", "</a>" },
+    { "entities", "<a href=\"/search?lang=en&amp;q=", "\" title=\"&lsquo;",
+      "&rsquo;\">&hellip;", "</a>" },
+  };
+
+  public static final void testTimeToFirstRender() throws Exception {
+    String java = System.getProperty("java.home")
+        + File.separator + "bin" + File.separator + "java";
+    String classPath = System.getProperty("java.class.path");
+
+    List<Object> bmark = new ArrayList<>();
+    List<Object> time = new ArrayList<>();
+    bmark.add("");
+    time.add("Median us");
+    for (String[] template : TEMPLATES) {
+      long[] times = new long[N_RUNS];
+      for (int i = 0; i < N_RUNS; ++i) {
+        Process p = new ProcessBuilder(
+            java, "-cp", classPath, BenchmarkStartupTest.class.getName(),
+            template[0])
+            .redirectErrorStream(true)
+            .start();
+        String output;
+        try (InputStreamReader in = new InputStreamReader(
+                 p.getInputStream(), StandardCharsets.UTF_8)) {
+          output = CharStreams.toString(in).trim();
+        }
+        assertEquals(output, 0, p.waitFor());
+        times[i] = Long.parseLong(output);
+      }
+      Arrays.sort(times);
+      bmark.add(template[0]);
+      time.add(times[N_RUNS / 2]);
+    }
+
+    System.err.println(
+        "\nTesting time to first render in us over " + N_RUNS
+        + " fresh JVMs");
+    TestUtil.writeTable(bmark.toArray(), time.toArray());
+  }
+
+  /**
+   * Renders the template named by argv[0] and prints the time taken in
+   * microseconds.
+   */
+  public static void main(String... argv) throws Exception {
+    String[] template = null;
+    for (String[] t : TEMPLATES) {
+      if (t[0].equals(argv[0])) { template = t; }
+    }
+    long t0 = System.nanoTime();
+    StringWriter sw = new StringWriter();
+    try (HTMLEscapingWriter w = new HTMLEscapingWriter(sw)) {
+      for (int i = 1; i < template.length; ++i) {
+        if (i != 1) { w.write("O'Reilly & Sons"); }
+        w.writeSafe(template[i]);
+      }
+    }
+    long t1 = System.nanoTime();
+    System.out.println((t1 - t0) / 1000);
+  }
+}
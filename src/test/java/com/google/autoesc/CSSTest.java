@@ -15,6 +15,11 @@
 package com.google.autoesc;
 
 import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import junit.framework.TestCase;
 
 @SuppressWarnings("javadoc")
@@ -198,4 +203,52 @@ public final class CSSTest extends TestCase {
     assertFilteredValue("@import url evil.css", "ZautoescZ");
     assertFilteredValue("@import evil.css", "ZautoescZ");
   }
+
+  public static final void testCSSValueFilterSlices() throws Exception {
+    String[][] tests = {
+      { "red", "red" },
+      { "\\72 ed", "red" },
+      { "\\1d11e x", "\ud834\udd1ex" },
+      { "ex pression", "ZautoescZ" },
+      { "exp\\72 ession", "ZautoescZ" },
+      { "mozbindin", "mozbindin" },
+      { "- -", "- -" },
+      { "-\\2d", "ZautoescZ" },
+      { "10px\\", "10px" },
+    };
+    for (String[] test : tests) {
+      String css = test[0], filtered = test[1];
+      // The chars around the slice should not affect the result.
+      String padded = "--" + css + "--";
+      int end = 2 + css.length();
+      {
+        StringWriter buf = new StringWriter();
+        CSS.filterValueOnto(padded, 2, end, buf);
+        assertEquals(css, filtered, buf.toString());
+      }
+      {
+        StringWriter buf = new StringWriter();
+        CSS.filterValueOnto(padded.toCharArray(), 2, end, buf);
+        assertEquals(css, filtered, buf.toString());
+      }
+    }
+  }
+
+  public static final void testCSSEscaperWritesSeparatorWithEscape()
+      throws Exception {
+    final List<String> writes = new ArrayList<>();
+    Writer out = new StringWriter() {
+      @Override
+      public void write(String s) {
+        writes.add(s);
+      }
+      @Override
+      public void write(String s, int off, int len) {
+        if (len != 0) { writes.add(s.substring(off, off + len)); }
+      }
+    };
+    CSS.escapeStrOnto("a:b;1\\", out);
+    assertEquals(
+        Arrays.asList("a", "\\3a ", "b", "\\3b ", "1", "\\\\"), writes);
+  }
 }
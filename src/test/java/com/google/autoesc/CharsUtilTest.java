@@ -54,6 +54,15 @@ public final class CharsUtilTest extends TestCase {
     assertEquals(9, CharsUtil.findHtmlCommentEnd(s1, 4, n));
     assertEquals(9, CharsUtil.findHtmlCommentEnd(s1, 4, n));
     assertEquals(17, CharsUtil.findHtmlCommentEnd(s1, 10, n));
+    // A dash followed by '>' is not a comment end.
+    assertEquals(-1, CharsUtil.findHtmlCommentEnd("abc->", 0, 5));
+    assertEquals(
+        -1, CharsUtil.findHtmlCommentEnd("abc->".toCharArray(), 0, 5));
+    assertEquals(6, CharsUtil.findHtmlCommentEnd("abc->x-->", 0, 9));
+    assertEquals(
+        6, CharsUtil.findHtmlCommentEnd("abc->x-->".toCharArray(), 0, 9));
+    // Does not match past end.
+    assertEquals(-1, CharsUtil.findHtmlCommentEnd("foo -->", 0, 6));
     for (int i = 0; i < n; ++i) {
       for (int j : new int[] { n, 0, Math.min(i+2, n),
                                Math.min(i+4, n), Math.min(i+8, n) }) {
@@ -76,6 +85,9 @@ public final class CharsUtilTest extends TestCase {
     assertEquals(3, CharsUtil.findEndTag(s1, 3, 5));
     assertEquals(-1, CharsUtil.findEndTag(s1, 3, 4));
     assertEquals(9, CharsUtil.findEndTag(s1, 4, n));
+    assertEquals(-1, CharsUtil.findEndTag(s1, 4, 9));
+    assertEquals(-1, CharsUtil.findEndTag(s1, 4, 10));
+    assertEquals(9, CharsUtil.findEndTag(s1, 4, 11));
     for (int i = 0; i < n; ++i) {
       for (int j : new int[] { n, 0, Math.min(i+1, n), Math.min(i+5, n) }) {
         assertEquals(
@@ -192,4 +204,13 @@ public final class CharsUtilTest extends TestCase {
     CharsUtil.append(sb, new char[] { 'f', 'o', 'o', 'd' }, 1, 3);
     assertEquals("oooo", sb.toString());
   }
+
+  public static final void testGetChars() {
+    char[] buf = new char[6];
+    assertEquals(2, CharsUtil.getChars("food", 1, 3, buf, 0));
+    assertEquals(
+        4, CharsUtil.getChars(new char[] { 'f', 'o', 'o', 'd' }, 2, 4, buf, 2));
+    assertEquals(4, CharsUtil.getChars("", 0, 0, buf, 4));
+    assertEquals("oood", new String(buf, 0, 4));
+  }
 }
@@ -0,0 +1,218 @@
+// Copyright (C) 2026 Google Inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.autoesc;
+
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import junit.framework.TestCase;
+
+@SuppressWarnings("javadoc")
+public final class ChunkedWriterTest extends TestCase {
+
+  /** Collects chunks, releasing each. */
+  static final class CollectingSink implements ChunkedWriter.Sink {
+    final StringBuilder sb = new StringBuilder();
+    final List<Integer> lengths = new ArrayList<>();
+    int nCompletes;
+
+    @Override
+    public void onChunk(ChunkedWriter.Chunk chunk) {
+      sb.append(chunk.asCharBuffer());
+      lengths.add(chunk.length());
+      chunk.release();
+    }
+
+    @Override
+    public void onComplete() {
+      ++nCompletes;
+    }
+  }
+
+  public static final void testChunksConcatenate() throws Exception {
+    Random rnd = new Random(0xc4a1);
+    StringBuilder expected = new StringBuilder();
+    for (int run = 0; run < 20; ++run) {
+      ChunkedWriter.Pool pool = new ChunkedWriter.Pool(1 + rnd.nextInt(64), 4);
+      CollectingSink sink = new CollectingSink();
+      ChunkedWriter w = new ChunkedWriter(sink, pool, 2);
+      w.request(Long.MAX_VALUE);
+      expected.setLength(0);
+      for (int i = 0; i < 100; ++i) {
+        String s = "<p>" + i + " &amp; " + rnd.nextInt() + "</p>\n";
+        expected.append(s);
+        switch (rnd.nextInt(4)) {
+          case 0: w.write(s); break;
+          case 1: w.write(s.toCharArray()); break;
+          case 2: w.append(s); break;
+          default:
+            for (int j = 0; j < s.length(); ++j) { w.write(s.charAt(j)); }
+            break;
+        }
+      }
+      assertEquals(0, sink.nCompletes);
+      w.close();
+      w.close();
+      assertEquals(expected.toString(), sink.sb.toString());
+      assertEquals(1, sink.nCompletes);
+      for (int i = 0; i < sink.lengths.size() - 1; ++i) {
+        assertEquals(pool.getChunkSize(), (int) sink.lengths.get(i));
+      }
+    }
+  }
+
+  public static final void testBackpressure() throws Exception {
+    ChunkedWriter.Pool pool = new ChunkedWriter.Pool(4, 16);
+    CollectingSink sink = new CollectingSink();
+    ChunkedWriter w = new ChunkedWriter(sink, pool, 2);
+    final int[] nWritable = new int[1];
+    Runnable listener = new Runnable() {
+      @Override
+      public void run() { ++nWritable[0]; }
+    };
+
+    w.write("abcd");
+    assertTrue(w.isWritable());
+    w.write("efgh");
+    assertFalse(w.isWritable());
+    w.write("ij");
+    assertEquals("", sink.sb.toString());
+    w.onWritable(listener);
+    assertEquals(0, nWritable[0]);
+
+    w.request(1);
+    assertEquals("abcd", sink.sb.toString());
+    assertTrue(w.isWritable());
+    assertEquals(1, nWritable[0]);
+
+    w.close();
+    assertEquals(0, sink.nCompletes);
+    w.request(5);
+    assertEquals("abcdefghij", sink.sb.toString());
+    assertEquals(1, sink.nCompletes);
+
+    // Released buffers are reused.
+    assertEquals(3, pool.getAllocationCount());
+    ChunkedWriter w2 = new ChunkedWriter(sink, pool, 2);
+    w2.write("klmnopqrstuv");
+    assertEquals(3, pool.getAllocationCount());
+  }
+
+  public static final void testSinkRequestsFromOtherThread() throws Exception {
+    final ExecutorService network = Executors.newSingleThreadExecutor();
+    try {
+      final StringBuilder sb = new StringBuilder();
+      final CountDownLatch done = new CountDownLatch(1);
+      ChunkedWriter.Pool pool = new ChunkedWriter.Pool(16, 16);
+      final ChunkedWriter[] cw = new ChunkedWriter[1];
+      cw[0] = new ChunkedWriter(
+          new ChunkedWriter.Sink() {
+            @Override
+            public void onChunk(final ChunkedWriter.Chunk chunk) {
+              network.execute(new Runnable() {
+                @Override
+                public void run() {
+                  sb.append(chunk);
+                  chunk.release();
+                  cw[0].request(1);
+                }
+              });
+            }
+
+            @Override
+            public void onComplete() {
+              network.execute(new Runnable() {
+                @Override
+                public void run() { done.countDown(); }
+              });
+            }
+          },
+          pool, 1);
+      cw[0].request(1);
+      StringBuilder expected = new StringBuilder();
+      try (HTMLEscapingWriter w = new HTMLEscapingWriter(cw[0])) {
+        for (int i = 0; i < 1000; ++i) {
+          w.writeSafe("<li>");
+          w.write("Item <" + i + ">");
+          expected.append("<li>Item &lt;").append(i).append("&gt;");
+        }
+      }
+      assertTrue(done.await(10, TimeUnit.SECONDS));
+      assertEquals(expected.toString(), sb.toString());
+    } finally {
+      network.shutdown();
+    }
+  }
+
+  /**
+   * Writes while another thread holds the monitors of the writers' locks so
+   * a write that synchronizes on one would never finish.
+   */
+  public static final void testWritesDoNotLock() throws Exception {
+    final CollectingSink sink = new CollectingSink();
+    final ChunkedWriter cw = new ChunkedWriter(
+        sink, new ChunkedWriter.Pool(8, 4), 1);
+    cw.request(Long.MAX_VALUE);
+    final HTMLEscapingWriter w = new HTMLEscapingWriter(cw);
+    final CountDownLatch locked = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      executor.submit(new Callable<Void>() {
+        @Override
+        public Void call() throws Exception {
+          synchronized (w) {
+            synchronized (cw) {
+              locked.countDown();
+              release.await();
+            }
+          }
+          return null;
+        }
+      });
+      assertTrue(locked.await(10, TimeUnit.SECONDS));
+      Future<Void> writes = executor.submit(new Callable<Void>() {
+        @Override
+        public Void call() throws Exception {
+          Writer out = w;
+          w.writeSafe("<p title=\"");
+          out.write('<');
+          out.write("a&b", 1, 2);
+          out.append("'").append('c');
+          w.writeSafe("\">");
+          w.write("<d>");
+          out.write("e".toCharArray());
+          w.writeSafe("</p>");
+          w.close();
+          return null;
+        }
+      });
+      writes.get(10, TimeUnit.SECONDS);
+      release.countDown();
+      assertEquals("<p title=\"&lt;&amp;b'c\">&lt;d&gt;e</p>",
+                   sink.sb.toString());
+    } finally {
+      release.countDown();
+      executor.shutdown();
+    }
+  }
+}
@@ -0,0 +1,131 @@
+// Copyright (C) 2026 Google Inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.autoesc;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import junit.framework.TestCase;
+
+@SuppressWarnings("javadoc")
+public final class FragmentCacheTest extends TestCase {
+
+  /** A product card that counts how often it is rendered. */
+  static final class Card implements ParallelRenderer.Fragment {
+    final String name;
+    int nRenders;
+
+    Card(String name) { this.name = name; }
+
+    @Override
+    public void writeTo(HTMLEscapingWriter w) throws IOException {
+      ++nRenders;
+      w.writeSafe("<b>");
+      w.write(name);
+      w.writeSafe("</b> <i>new</i>");
+    }
+  }
+
+  public static final void testHitsMatchRendering() throws Exception {
+    FragmentCache cache = new FragmentCache(1 << 20);
+    Card card = new Card("Fish & \"chips\"");
+    String[][] cases = {
+      { "<p>", "</p>" },
+      { "<p title=\"", "\">" },
+      { "<p title='", "'>" },
+      { "<textarea>", "</textarea>" },
+    };
+    for (int i = 0; i < 3; ++i) {
+      for (String[] prefixAndSuffix : cases) {
+        String prefix = prefixAndSuffix[0];
+        String suffix = prefixAndSuffix[1];
+        StringWriter golden = new StringWriter();
+        try (HTMLEscapingWriter w = new HTMLEscapingWriter(golden)) {
+          w.writeSafe(prefix);
+          card.writeTo(w);
+          w.write("<x>");
+          w.writeSafe(suffix);
+        }
+        --card.nRenders;
+
+        StringWriter buf = new StringWriter();
+        HTMLEscapingWriter w = new HTMLEscapingWriter(buf);
+        w.writeSafe(prefix);
+        cache.writeTo(w, Arrays.asList("card", 1), card);
+        // The writer is in the end context of the fragment.
+        w.write("<x>");
+        w.writeSafe(suffix);
+        w.close();
+        assertEquals(prefix, golden.toString(), buf.toString());
+      }
+    }
+    // Rendered once per distinct context.
+    assertEquals(cases.length, card.nRenders);
+    assertEquals(cases.length, cache.size());
+    assertEquals(2 * cases.length, cache.stats().hitCount());
+    assertEquals(cases.length, cache.stats().missCount());
+  }
+
+  public static final void testKeyedBySettings() throws Exception {
+    FragmentCache cache = new FragmentCache(1 << 20);
+    Card card = new Card("a &amp; b");
+    StringWriter buf = new StringWriter();
+    try (HTMLEscapingWriter w = new HTMLEscapingWriter(buf)) {
+      cache.writeTo(w, "card", card);
+      w.setSoft(true);
+      cache.writeTo(w, "card", card);
+      w.setSoft(false);
+      cache.writeTo(w, "card", card);
+    }
+    assertEquals(
+        "<b>a &amp;amp; b</b> <i>new</i>"
+        + "<b>a &amp; b</b> <i>new</i>"
+        + "<b>a &amp;amp; b</b> <i>new</i>",
+        buf.toString());
+    assertEquals(2, card.nRenders);
+  }
+
+  public static final void testBoundedByBytes() throws Exception {
+    FragmentCache cache = new FragmentCache(1 << 10);
+    StringWriter buf = new StringWriter();
+    try (HTMLEscapingWriter w = new HTMLEscapingWriter(buf)) {
+      for (int i = 0; i < 100; ++i) {
+        cache.writeTo(w, i, new Card("Card #" + i));
+      }
+    }
+    assertTrue(cache.size() < 100);
+    assertTrue(cache.stats().evictionCount() > 0);
+  }
+
+  public static final void testHolesNotCached() throws Exception {
+    FragmentCache cache = new FragmentCache(1 << 20);
+    final Hole[] hole = new Hole[1];
+    ParallelRenderer.Fragment fragment = new ParallelRenderer.Fragment() {
+      @Override
+      public void writeTo(HTMLEscapingWriter w) throws IOException {
+        w.writeSafe("<b>");
+        hole[0] = w.defer();
+        w.writeSafe("</b>");
+      }
+    };
+    StringWriter buf = new StringWriter();
+    HTMLEscapingWriter w = new HTMLEscapingWriter(buf);
+    cache.writeTo(w, "f", fragment);
+    w.close();
+    hole[0].fill("<c>");
+    assertEquals("<b>&lt;c&gt;</b>", buf.toString());
+    assertEquals(0, cache.size());
+  }
+}
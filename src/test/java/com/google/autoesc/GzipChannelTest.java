@@ -0,0 +1,86 @@
+// Copyright (C) 2026 Google Inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.autoesc;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPInputStream;
+
+import com.google.common.base.Strings;
+import com.google.common.io.ByteStreams;
+
+import junit.framework.TestCase;
+
+@SuppressWarnings("javadoc")
+public final class GzipChannelTest extends TestCase {
+
+  /** A long constant that is precompressed. */
+  static final String NAV = "<nav><ul>"
+      + Strings.repeat("<li><a href=\"/section\">Section \u00a7</a></li>", 20)
+      + "</ul></nav>";
+
+  static String gunzip(byte[] gzipped) throws Exception {
+    try (GZIPInputStream in = new GZIPInputStream(
+             new ByteArrayInputStream(gzipped))) {
+      return new String(ByteStreams.toByteArray(in), StandardCharsets.UTF_8);
+    }
+  }
+
+  static void render(HTMLEscapingWriter w, int nRows) throws Exception {
+    w.writeSafe("<html><body>");
+    w.writeSafe(NAV);
+    RowRenderer rows = new RowRenderer(
+        w, "<p title=\"", "\">", "</p>" + Strings.repeat(" ", 600));
+    for (int i = 0; i < nRows; ++i) {
+      rows.writeRow(w, "Row \"" + i + "\"", "<" + i + "> & caf\u00e9");
+    }
+    w.writeSafe(NAV);
+    w.writeSafe("</body></html>");
+  }
+
+  public static final void testDecompressesToOutput() throws Exception {
+    StringWriter plain = new StringWriter();
+    try (HTMLEscapingWriter w = new MemoizingHTMLEscapingWriter(plain)) {
+      render(w, 10);
+    }
+    for (int run = 0; run < 2; ++run) {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      GzipChannel gz = new GzipChannel(Channels.newChannel(bytes));
+      Utf8ChannelWriter out = new Utf8ChannelWriter(gz, 64, new CRC32());
+      try (HTMLEscapingWriter w = new MemoizingHTMLEscapingWriter(out)) {
+        render(w, 10);
+      }
+      assertEquals(plain.toString(), gunzip(bytes.toByteArray()));
+      // Both navs and the long row literal were spliced in.
+      assertTrue(
+          gz.getPrecompressedByteCount()
+          > 2 * NAV.length() + 10 * 600);
+      // Checksums cover spliced bytes.
+      CRC32 crc = new CRC32();
+      crc.update(plain.toString().getBytes(StandardCharsets.UTF_8));
+      assertEquals(crc.getValue(), out.getChecksumValue());
+    }
+  }
+
+  public static final void testEmptyStream() throws Exception {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    new GzipChannel(Channels.newChannel(bytes)).close();
+    assertEquals("", gunzip(bytes.toByteArray()));
+  }
+}
@@ -14,12 +14,16 @@
 
 package com.google.autoesc;
 
+import java.io.StringReader;
 import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
+import com.google.common.base.Strings;
+
 import junit.framework.ComparisonFailure;
 import junit.framework.TestCase;
 
@@ -1545,6 +1549,215 @@ public final class HTMLEscapingWriterTest extends TestCase {
         "expected space, attr name, or end of tag, but got ^=foo>");
   }
 
+  public static final void testWriteSafeReader() throws Exception {
+    String row = (
+        "<tr><td><a href=\"/x?a=1&amp;b=2\" title='I &lt;3 Ponies'>"
+        + "Lorem &copy; Ipsum</a><td style=\"content: '\\3c '\">"
+        + "<script>var x = \"</b>\"; /* comment */ if (x) { y = /a/g; }"
+        + "</script><!-- comment --><textarea>&lt;/textarea</textarea>\n");
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < 500; ++i) {
+      sb.append(row);
+      if (i % 7 == 0) {
+        // Exercise splitting after '>' when there are no line breaks.
+        sb.append(row.replace('\n', ' '));
+      }
+    }
+    String html = sb.toString();
+
+    StringWriter want = new StringWriter();
+    StringWriter got = new StringWriter();
+    StringWriter gotSeq = new StringWriter();
+    try (HTMLEscapingWriter w = new HTMLEscapingWriter(want)) {
+      w.writeSafe(html);
+    }
+    try (HTMLEscapingWriter w = new HTMLEscapingWriter(got)) {
+      w.writeSafe(new StringReader(html));
+    }
+    try (HTMLEscapingWriter w = new HTMLEscapingWriter(gotSeq)) {
+      w.writeSafe(new StringBuilder(html));
+    }
+    assertEquals(want.toString(), got.toString());
+    assertEquals(want.toString(), gotSeq.toString());
+  }
+
+  public static final void testWriteSafeReaderLongLines() throws Exception {
+    // Lines with no '\n' or '>' in the 64K read buffer are cut at its end.
+    int cut = 1 << 16;
+    String[][] tests = {
+      // An entity across the cut.
+      { "<a onclick=\"", "x=&#34;y&#34;", "\">" },
+      // An end tag across the cut after a cut following "<script>".
+      { "<script>", "x = 1 < 2</script> y=\"", "\">" },
+      // Comment delimiters and escapes across the cut.
+      { "<script>", " /* it's */ alert(1)</script>", "" },
+      { "<script>", " // it's\n alert(1)</script>", "" },
+      { "<script>", " = 'a\\'b'</script>", "" },
+      { "<style>", " p {} /* it's */ a {}</style>", "" },
+      { "<div>", "<!-- a -- b -->", "</div>" },
+    };
+    for (String[] test : tests) {
+      String prefix = test[0];
+      int prefixLen = prefix.endsWith(">") ? 0 : prefix.length();
+      String construct = test[1];
+      for (int straddle = 1; straddle < construct.length(); ++straddle) {
+        String html = prefix
+            + Strings.repeat("x", cut - prefixLen - straddle)
+            + construct + test[2];
+        StringWriter want = new StringWriter();
+        StringWriter got = new StringWriter();
+        StringWriter gotSeq = new StringWriter();
+        try (HTMLEscapingWriter w = new HTMLEscapingWriter(want)) {
+          w.writeSafe(html);
+        }
+        try (HTMLEscapingWriter w = new HTMLEscapingWriter(got)) {
+          w.writeSafe(new StringReader(html));
+        }
+        try (HTMLEscapingWriter w = new HTMLEscapingWriter(gotSeq)) {
+          w.writeSafe(new StringBuilder(html));
+        }
+        String msg = construct + " at " + straddle;
+        assertEquals(msg, want.toString(), got.toString());
+        assertEquals(msg, want.toString(), gotSeq.toString());
+      }
+    }
+  }
+
+  public static final void testWriteReader() throws Exception {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < 1000; ++i) {
+      sb.append("<O'Reilly & \"Sons\"> %20 \ud834\udd1e /\\ ");
+    }
+    String value = sb.toString();
+    String[] prefixes = {
+      "", "<a title='", "<a title=\"", "<a title=", "<a href=\"",
+      "<a href=\"/search?q=", "<script>var s = '", "<script>var s = ",
+      "<textarea>", "<a onclick=\"alert(",
+    };
+    for (String prefix : prefixes) {
+      StringWriter want = new StringWriter();
+      StringWriter got = new StringWriter();
+      try (HTMLEscapingWriter w = new HTMLEscapingWriter(want)) {
+        w.writeSafe(prefix);
+        w.write((Object) value);
+      } catch (@SuppressWarnings("unused") BadEndContextException ex) {
+        // Test inputs need not end in a valid end context.
+      }
+      try (HTMLEscapingWriter w = new HTMLEscapingWriter(got)) {
+        w.writeSafe(prefix);
+        w.write(new StringReader(value));
+      } catch (@SuppressWarnings("unused") BadEndContextException ex) {
+        // Test inputs need not end in a valid end context.
+      }
+      assertEquals(prefix, want.toString(), got.toString());
+    }
+  }
+
+  public static final void testWriteSegments() throws Exception {
+    Object[] parts = {
+      "<a href=\"/search?q=", "O'Reilly & Sons", "&amp;lang=", "",
+      "\" onclick=\"alert(", "<script>", ")\" title=", "x y",
+      ">", 42, "<script>var x = ", "", "</script>",
+    };
+    BitSet safeMask = new BitSet();
+    for (int i = 0; i < parts.length; i += 2) { safeMask.set(i); }
+    StringWriter want = new StringWriter();
+    try (HTMLEscapingWriter w = new HTMLEscapingWriter(want)) {
+      for (int i = 0; i < parts.length; ++i) {
+        if (safeMask.get(i)) {
+          w.writeSafe((String) parts[i]);
+        } else {
+          w.write(parts[i]);
+        }
+      }
+    }
+    StringWriter got = new StringWriter();
+    try (HTMLEscapingWriter w = new HTMLEscapingWriter(got)) {
+      w.writeSegments(parts, safeMask);
+    }
+    assertEquals(want.toString(), got.toString());
+    StringWriter gotMemo = new StringWriter();
+    try (HTMLEscapingWriter w = new MemoizingHTMLEscapingWriter(gotMemo)) {
+      w.writeSegments(parts, safeMask);
+      w.writeSegments(parts, safeMask);
+    }
+    assertEquals(
+        want.toString() + want.toString(), gotMemo.toString());
+  }
+
+  public static final void testWriteCodePoints() throws Exception {
+    String[][] tests = {
+      { "<p>", Strings.repeat("&amp;x&lt;&#34;", 300), "</p>" },
+      {
+        "<p title=\"", Strings.repeat("&amp;x&lt;&#x22;", 300), "\">",
+      },
+      { "<p>", Strings.repeat("Fish & chips / <b> ", 200), "</p>" },
+      {
+        "<a href=\"",
+        "http://example.com/" + Strings.repeat("a%20b&c=d", 300),
+        "\">",
+      },
+      // Long values without a '/' are not split.
+      { "<script>var x = ", Strings.repeat("ab", 1000), ";</script>" },
+      { "<p style=\"color: ", Strings.repeat("ab", 1000), "\">" },
+      {
+        "<script>var s = '",
+        Strings.repeat("\ud83d\ude00x", 1000),
+        "';</script>",
+      },
+    };
+    for (boolean soft : new boolean[] { false, true }) {
+      for (String[] test : tests) {
+        String value = test[1];
+        StringWriter want = new StringWriter();
+        try (HTMLEscapingWriter w = new HTMLEscapingWriter(want)) {
+          w.setSoft(soft);
+          w.writeSafe(test[0]);
+          w.write(value);
+          w.writeSafe(test[2]);
+        }
+        StringWriter got = new StringWriter();
+        try (HTMLEscapingWriter w = new HTMLEscapingWriter(got)) {
+          w.setSoft(soft);
+          w.writeSafe(test[0]);
+          for (int i = 0, n = value.length(), cp; i < n;
+               i += Character.charCount(cp)) {
+            cp = value.codePointAt(i);
+            w.write(cp);
+          }
+          w.writeSafe(test[2]);
+        }
+        assertEquals(test[0], want.toString(), got.toString());
+      }
+    }
+  }
+
+  public static final void testWriteCodePointsLongValue() throws Exception {
+    // Longer than the buffer that is retained, and with no '/'.
+    String[] values = {
+      Strings.repeat("a'b<c", 4000), "x'y", Strings.repeat("z", 9000),
+    };
+    StringWriter want = new StringWriter();
+    try (HTMLEscapingWriter w = new HTMLEscapingWriter(want)) {
+      for (String value : values) {
+        w.writeSafe("<script>var x = ");
+        w.write(value);
+        w.writeSafe(";</script>");
+      }
+    }
+    StringWriter got = new StringWriter();
+    try (HTMLEscapingWriter w = new HTMLEscapingWriter(got)) {
+      for (String value : values) {
+        w.writeSafe("<script>var x = ");
+        for (int i = 0, n = value.length(); i < n; ++i) {
+          w.write(value.charAt(i));
+        }
+        w.writeSafe(";</script>");
+      }
+    }
+    assertEquals(want.toString(), got.toString());
+  }
+
   private static boolean isNumberLit(String s) {
     try {
       Float.parseFloat(s);
@@ -0,0 +1,273 @@
+// Copyright (C) 2026 Google Inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.autoesc;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.SettableFuture;
+
+import junit.framework.TestCase;
+
+@SuppressWarnings("javadoc")
+public final class HoleTest extends TestCase {
+
+  /** Trusted parts with a value between each adjacent pair. */
+  private static final String[] TEMPLATE = {
+    "<ul><li title=", ">", "</li><li><a href=\"", "", "\" onclick=\"f(",
+    ")\">", "</a><li style=\"color: ", "\">", "<script>var x = ", ";</script>",
+    "</ul>",
+  };
+
+  private static final Object[] VALUES = {
+    "O'Reilly", "<b>", "/search?q=", "a b", "'e'", "x & y", "red", "", 42,
+    "end",
+  };
+
+  private static String writeSerially(Object[] values) throws Exception {
+    StringWriter buf = new StringWriter();
+    try (HTMLEscapingWriter w = new HTMLEscapingWriter(buf)) {
+      for (int i = 0; i < values.length; ++i) {
+        w.writeSafe(TEMPLATE[i]);
+        w.write(values[i]);
+      }
+      w.writeSafe(TEMPLATE[values.length]);
+    }
+    return buf.toString();
+  }
+
+  public static final void testPrefixesStream() throws Exception {
+    StringWriter buf = new StringWriter();
+    HTMLEscapingWriter w = new HTMLEscapingWriter(buf);
+    w.writeSafe("<p>");
+    Hole h1 = w.defer();
+    w.writeSafe("</p><a href=\"");
+    Hole h2 = w.defer();
+    w.writeSafe("\">");
+    w.write("<3");
+    w.writeSafe("</a>");
+    assertEquals("<p>", buf.toString());
+    assertFalse(h1.isFilled());
+
+    h2.fill("?q=a b");
+    assertTrue(h2.isFilled());
+    assertEquals("<p>", buf.toString());
+
+    h1.fill("Fish & chips");
+    assertEquals(
+        "<p>Fish &amp; chips</p><a href=\"?q=a%20b\">&lt;3</a>",
+        buf.toString());
+
+    // No holes are unfilled so content is written directly.
+    w.write("!");
+    assertEquals(
+        "<p>Fish &amp; chips</p><a href=\"?q=a%20b\">&lt;3</a>!",
+        buf.toString());
+    w.close();
+  }
+
+  public static final void testFillOrderDoesNotAffectOutput()
+      throws Exception {
+    String golden = writeSerially(VALUES);
+    Random rnd = new Random(0x5eed);
+    for (int run = 0; run < 50; ++run) {
+      StringWriter buf = new StringWriter();
+      HTMLEscapingWriter w = new HTMLEscapingWriter(buf);
+      List<Integer> deferred = new ArrayList<>();
+      Hole[] holes = new Hole[VALUES.length];
+      for (int i = 0; i < VALUES.length; ++i) {
+        w.writeSafe(TEMPLATE[i]);
+        if (rnd.nextBoolean()) {
+          holes[i] = w.defer();
+          deferred.add(i);
+        } else {
+          // Written directly or queued behind an unfilled hole.
+          w.write(VALUES[i]);
+        }
+      }
+      w.writeSafe(TEMPLATE[VALUES.length]);
+      w.close();
+      Collections.shuffle(deferred, rnd);
+      for (int i : deferred) {
+        holes[i].fill(VALUES[i]);
+      }
+      assertEquals("run " + run, golden, buf.toString());
+    }
+  }
+
+  public static final void testValueChangesContextOfQueuedContent()
+      throws Exception {
+    // The first value decides whether the second is in the query.
+    for (String url : new String[] { "/path", "/path?q=" }) {
+      StringWriter buf = new StringWriter();
+      HTMLEscapingWriter w = new HTMLEscapingWriter(buf);
+      w.writeSafe("<a href=\"");
+      Hole h = w.defer();
+      w.write("a/b c");
+      w.writeSafe("\">");
+      w.close();
+      h.fill(url);
+
+      StringWriter serial = new StringWriter();
+      try (HTMLEscapingWriter sw = new HTMLEscapingWriter(serial)) {
+        sw.writeSafe("<a href=\"");
+        sw.write(url);
+        sw.write("a/b c");
+        sw.writeSafe("\">");
+      }
+      assertEquals(serial.toString(), buf.toString());
+    }
+  }
+
+  public static final void testFillFromOtherThreads() throws Exception {
+    final int nItems = 200;
+    StringWriter serial = new StringWriter();
+    try (HTMLEscapingWriter w = new HTMLEscapingWriter(serial)) {
+      w.writeSafe("<ul>");
+      for (int i = 0; i < nItems; ++i) {
+        w.writeSafe("<li><a href=\"/item/");
+        w.write(i);
+        w.writeSafe("\">");
+        w.write("Item <" + i + ">");
+        w.writeSafe("</a>");
+      }
+      w.writeSafe("</ul>");
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      StringWriter buf = new StringWriter();
+      HTMLEscapingWriter w = new HTMLEscapingWriter(buf);
+      List<Future<Void>> fills = new ArrayList<>();
+      w.writeSafe("<ul>");
+      for (int i = 0; i < nItems; ++i) {
+        w.writeSafe("<li><a href=\"/item/");
+        w.write(i);
+        w.writeSafe("\">");
+        final Hole h = w.defer();
+        final String value = "Item <" + i + ">";
+        fills.add(executor.submit(new Callable<Void>() {
+          @Override
+          public Void call() throws Exception {
+            h.fill(value);
+            return null;
+          }
+        }));
+        w.writeSafe("</a>");
+      }
+      w.writeSafe("</ul>");
+      w.close();
+      for (Future<Void> fill : fills) {
+        fill.get();
+      }
+      assertEquals(serial.toString(), buf.toString());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  public static final void testRowsAfterHole() throws Exception {
+    StringWriter buf = new StringWriter();
+    HTMLEscapingWriter w = new HTMLEscapingWriter(buf);
+    w.writeSafe("<table>");
+    RowRenderer rows = new RowRenderer(
+        w, "<tr><td><a href=\"", "\">", "</a></td></tr>");
+    w.writeSafe("<caption>");
+    Hole caption = w.defer();
+    w.writeSafe("</caption>");
+    rows.writeRow(w, "/a?b=", "<c>");
+    w.writeSafe("</table>");
+    w.close();
+    assertEquals("<table><caption>", buf.toString());
+    caption.fill("Q&A");
+    assertEquals(
+        "<table><caption>Q&amp;A</caption>"
+        + "<tr><td><a href=\"/a?b=\">&lt;c&gt;</a></td></tr></table>",
+        buf.toString());
+  }
+
+  public static final void testCloseErrorsReportedByFill() throws Exception {
+    StringWriter buf = new StringWriter();
+    HTMLEscapingWriter w = new HTMLEscapingWriter(buf);
+    w.writeSafe("<a href=\"");
+    Hole h = w.defer();
+    // Does not throw since the end context is not known.
+    w.close();
+    try {
+      h.fill("/foo");
+      fail("Incomplete document not reported");
+    } catch (@SuppressWarnings("unused") BadEndContextException ex) {
+      // pass
+    }
+    assertEquals("<a href=\"/foo", buf.toString());
+  }
+
+  public static final void testListenableFuture() throws Exception {
+    StringWriter buf = new StringWriter();
+    HTMLEscapingWriter w = new HTMLEscapingWriter(buf);
+    SettableFuture<String> title = SettableFuture.create();
+    w.writeSafe("<h1>");
+    w.write(title);
+    w.writeSafe("</h1><a href=\"");
+    w.writeSegments(
+        new Object[] { "/p?q=", Futures.immediateFuture("a&b"), "\">" },
+        BitSet.valueOf(new long[] { 0x5 }));
+    w.close();
+    assertEquals("<h1>", buf.toString());
+    title.set("<Title>");
+    assertEquals(
+        "<h1>&lt;Title&gt;</h1><a href=\"/p?q=a%26b\">", buf.toString());
+  }
+
+  public static final void testFailedFuture() throws Exception {
+    StringWriter buf = new StringWriter();
+    HTMLEscapingWriter w = new HTMLEscapingWriter(buf);
+    SettableFuture<String> title = SettableFuture.create();
+    w.writeSafe("<h1>");
+    w.write(title);
+    Exception cause = new Exception("backend down");
+    title.setException(cause);
+    try {
+      w.writeSafe("</h1>");
+      fail("Failure not reported");
+    } catch (IOException ex) {
+      assertSame(cause, ex.getCause());
+    }
+    assertEquals("<h1>", buf.toString());
+  }
+
+  public static final void testFillTwice() throws Exception {
+    HTMLEscapingWriter w = new HTMLEscapingWriter(new StringWriter());
+    Hole h = w.defer();
+    h.fill("foo");
+    try {
+      h.fill("bar");
+      fail("Filled twice");
+    } catch (@SuppressWarnings("unused") IllegalStateException ex) {
+      // pass
+    }
+    w.close();
+  }
+}
@@ -0,0 +1,63 @@
+// Copyright (C) 2026 Google Inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.autoesc;
+
+import java.util.Random;
+import junit.framework.TestCase;
+
+@SuppressWarnings("javadoc")
+public final class OutputSizeEstimatorTest extends TestCase {
+
+  public static final void testBuckets() {
+    int last = -1;
+    for (long size = 0; size < 1 << 16; ++size) {
+      int bucket = OutputSizeEstimator.bucket(size);
+      assertTrue(bucket == last || bucket == last + 1);
+      if (bucket != last && last >= 0) {
+        // Buckets are contiguous.
+        assertEquals(size - 1, OutputSizeEstimator.maxSize(last));
+      }
+      long max = OutputSizeEstimator.maxSize(bucket);
+      assertTrue(size <= max);
+      // Buckets are at most 25% wide.
+      assertTrue(max <= size + size / 4 + 1);
+      last = bucket;
+    }
+    assertEquals(
+        Long.MAX_VALUE,
+        OutputSizeEstimator.maxSize(
+            OutputSizeEstimator.bucket(Long.MAX_VALUE)));
+  }
+
+  public static final void testEstimate() {
+    OutputSizeEstimator sizes = new OutputSizeEstimator(1000);
+    assertEquals(1000, sizes.estimatedOutputSize());
+    Random rnd = new Random(0x512e);
+    for (int i = 0; i < 1000; ++i) {
+      // 90% of pages are between 20K and 30K chars.
+      sizes.record(i % 10 == 0 ? 100000 : 20000 + rnd.nextInt(10000));
+    }
+    int estimate = sizes.estimatedOutputSize();
+    assertTrue("" + estimate, 29999 <= estimate && estimate < 37500);
+    assertEquals(1000, sizes.getRecordCount());
+
+    // Estimates follow changes in output size.
+    for (int i = 0; i < 3 * OutputSizeEstimator.DECAY_INTERVAL; ++i) {
+      sizes.record(5000);
+    }
+    estimate = sizes.estimatedOutputSize();
+    assertTrue("" + estimate, 5000 <= estimate && estimate < 6250);
+  }
+}
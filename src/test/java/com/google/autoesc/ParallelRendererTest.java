@@ -0,0 +1,233 @@
+// Copyright (C) 2026 Google Inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.autoesc;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import junit.framework.TestCase;
+
+@SuppressWarnings("javadoc")
+public final class ParallelRendererTest extends TestCase {
+
+  /** A fragment that alternates between safe and unsafe parts. */
+  static final class TestFragment implements ParallelRenderer.Fragment {
+    final Object[] parts;
+    /** The writers to which the fragment was written. */
+    final List<HTMLEscapingWriter> writers = Collections.synchronizedList(
+        new ArrayList<HTMLEscapingWriter>());
+
+    TestFragment(Object... parts) {
+      this.parts = parts;
+    }
+
+    @Override
+    public void writeTo(HTMLEscapingWriter w) throws IOException {
+      writers.add(w);
+      for (int i = 0; i < parts.length; ++i) {
+        if ((i & 1) == 0) {
+          w.writeSafe((String) parts[i]);
+        } else {
+          w.write(parts[i]);
+        }
+      }
+    }
+  }
+
+  private static String renderSerially(List<TestFragment> fragments)
+      throws Exception {
+    StringWriter buf = new StringWriter();
+    try (HTMLEscapingWriter w = new HTMLEscapingWriter(buf)) {
+      w.writeSafe("<body>");
+      for (TestFragment f : fragments) {
+        f.writeTo(w);
+      }
+      w.writeSafe("</body>");
+    }
+    return buf.toString();
+  }
+
+  private static String renderInParallel(
+      List<TestFragment> fragments, StringWriter buf, HTMLEscapingWriter w)
+      throws Exception {
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      w.writeSafe("<body>");
+      ParallelRenderer.render(w, fragments, pool);
+      w.writeSafe("</body>");
+      w.close();
+      return buf.toString();
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  public static final void testRender() throws Exception {
+    List<TestFragment> fragments = new ArrayList<>();
+    for (int i = 0; i < 100; ++i) {
+      fragments.add(new TestFragment(
+          "<h2 id=", "section-" + i, ">", "Section <" + i + ">",
+          "</h2><a href=\"", "/s?q=" + i, "\">", "O'Reilly & Sons",
+          "</a>\n"));
+    }
+    String want = renderSerially(fragments);
+    StringWriter buf = new StringWriter();
+    HTMLEscapingWriter w = new HTMLEscapingWriter(buf);
+    assertEquals(want, renderInParallel(fragments, buf, w));
+    for (TestFragment f : fragments) {
+      assertFalse(f.writers.contains(w));
+    }
+  }
+
+  public static final void testMispredictedContext() throws Exception {
+    List<TestFragment> fragments = new ArrayList<>();
+    fragments.add(new TestFragment("<p>", "Hello"));
+    // Ends inside a tag.
+    fragments.add(new TestFragment("<a title=", "x y"));
+    // Starts inside a tag so is mispredicted.
+    fragments.add(new TestFragment(" href=", "/foo", ">", "World", "</a>"));
+    fragments.add(new TestFragment("<p>", "Goodbye"));
+    String want = renderSerially(fragments);
+    StringWriter buf = new StringWriter();
+    HTMLEscapingWriter w = new HTMLEscapingWriter(buf);
+    assertEquals(want, renderInParallel(fragments, buf, w));
+    // Only the mispredicted fragment was rendered onto w.
+    assertFalse(fragments.get(1).writers.contains(w));
+    assertTrue(fragments.get(2).writers.contains(w));
+    assertFalse(fragments.get(3).writers.contains(w));
+  }
+
+  public static final void testRenderPredictsWritersContext()
+      throws Exception {
+    List<TestFragment> fragments = new ArrayList<>();
+    for (int i = 0; i < 10; ++i) {
+      fragments.add(new TestFragment("x[", i, "] = ", "<" + i + ">", ";\n"));
+    }
+    StringWriter want = new StringWriter();
+    try (HTMLEscapingWriter w = new HTMLEscapingWriter(want)) {
+      w.writeSafe("<script>");
+      for (TestFragment f : fragments) {
+        f.writeTo(w);
+      }
+      w.writeSafe("</script>");
+    }
+    StringWriter buf = new StringWriter();
+    HTMLEscapingWriter w = new HTMLEscapingWriter(buf);
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      w.writeSafe("<script>");
+      ParallelRenderer.render(w, fragments, pool);
+      w.writeSafe("</script>");
+      w.close();
+    } finally {
+      pool.shutdown();
+    }
+    assertEquals(want.toString(), buf.toString());
+    // Predicted right, so none was rendered again onto w.
+    for (TestFragment f : fragments) {
+      assertFalse(f.writers.contains(w));
+    }
+  }
+
+  /** Parts of a large static page, some with a '>' outside text. */
+  private static final String[] PAGE_PARTS = {
+    "<p>Some text &amp; more</p>\n",
+    "<a title=\"a > b\" href=\"/x?y=z>\">link</a>\n",
+    "<script>if (a > b && c) { x = '<b>'; }</script>\n",
+    "<style>p > b { color: red }</style>\n",
+    "<!-- a comment > with gt -->\n",
+    "<textarea><p>not a tag</p></textarea>\n",
+    "<img src=foo alt=bar>\n",
+    "<b>Unbalanced</i>< stray\n",
+  };
+
+  private static final String[] PREFIXES = {
+    "", "<body>", "<div title=\"", "<script>",
+  };
+
+  public static final void testWriteSafeSplitsAfterTagsInText()
+      throws Exception {
+    String page = "<p>a</p><script>if (a > b) {}</script>"
+        + "<!-- > --><style>p > a {}</style><TEXTAREA>></textarea><b>";
+    List<Integer> ends = new ArrayList<>();
+    for (int i = 0; (i = ParallelRenderer.textTagEnd(page, i, i + 1)) >= 0;) {
+      ends.add(i);
+    }
+    List<String> tags = new ArrayList<>();
+    for (int i = 0, start = 0; i < ends.size(); start = ends.get(i++)) {
+      tags.add(page.substring(start, ends.get(i)));
+    }
+    assertEquals(
+        Arrays.asList(
+            "<p>", "a</p>", "<script>if (a > b) {}</script>", "<!-- > -->",
+            "<style>p > a {}</style>", "<TEXTAREA>></textarea>", "<b>"),
+        tags);
+  }
+
+  public static final void testWriteSafeOutsideTextIsSerial()
+      throws Exception {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < 100; ++i) { sb.append("x = 1 > 2;\n"); }
+    String script = sb.toString();
+    ForkJoinPool pool = new ForkJoinPool(1);
+    // Submitting any piece to a shut down pool would fail.
+    pool.shutdown();
+    StringWriter buf = new StringWriter();
+    HTMLEscapingWriter w = new HTMLEscapingWriter(buf);
+    w.writeSafe("<script>");
+    ParallelRenderer.writeSafe(w, script, pool, 16);
+    w.writeSafe("</script>");
+    w.close();
+    assertEquals("<script>" + script + "</script>", buf.toString());
+  }
+
+  public static final void testWriteSafe() throws Exception {
+    Random rnd = new Random(0x5afe);
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      for (int run = 0; run < 50; ++run) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = rnd.nextInt(200); --i >= 0;) {
+          sb.append(PAGE_PARTS[rnd.nextInt(PAGE_PARTS.length)]);
+        }
+        String page = sb.toString();
+        String prefix = PREFIXES[rnd.nextInt(PREFIXES.length)];
+
+        StringWriter serial = new StringWriter();
+        HTMLEscapingWriter sw = new HTMLEscapingWriter(serial);
+        sw.writeSafe(prefix);
+        sw.writeSafe(page);
+
+        StringWriter parallel = new StringWriter();
+        HTMLEscapingWriter pw = new HTMLEscapingWriter(parallel);
+        pw.writeSafe(prefix);
+        ParallelRenderer.writeSafe(pw, page, pool, 1 + rnd.nextInt(256));
+
+        assertEquals(serial.toString(), parallel.toString());
+        assertEquals(
+            Context.toString(sw.getContext()),
+            Context.toString(pw.getContext()));
+        assertSame(sw.getRtable(), pw.getRtable());
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+}
@@ -0,0 +1,147 @@
+// Copyright (C) 2026 Google Inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.autoesc;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import junit.framework.TestCase;
+
+@SuppressWarnings("javadoc")
+public final class RowRendererTest extends TestCase {
+
+  private static final String[] ROW_TEMPLATE = {
+    "<tr><td title=", ">", "</td><td><a href=\"", "/", "\" onclick=\"pick(",
+    ")\">", "</a></td><td style=\"color: ", "\">", "</td></tr>\n",
+  };
+
+  private static final Object[][] VALUES = {
+    { "O'Reilly", "<b>", "/foo", "bar?baz", 42, "x & y", "red", "" },
+    { "", "", "", "", "", "", "", "" },
+    { "a b", "c", "javascript:alert(1)", "d", "'e'", "f", "expression(", "g" },
+    { "h", "i", "/search?q=", "j k", null, "l", "blue", "m" },
+    { "n", "o", "mailto:x@example.com#", "p", 1.5, "q", "#fff", "r" },
+  };
+
+  private static String writePiecemeal(String prefix, List<Object[]> rows)
+      throws Exception {
+    StringWriter buf = new StringWriter();
+    try (HTMLEscapingWriter w = new HTMLEscapingWriter(buf)) {
+      w.writeSafe(prefix);
+      for (Object[] row : rows) {
+        for (int i = 0; i < row.length; ++i) {
+          w.writeSafe(ROW_TEMPLATE[i]);
+          w.write(row[i]);
+        }
+        w.writeSafe(ROW_TEMPLATE[row.length]);
+      }
+      w.writeSafe("</table>");
+    }
+    return buf.toString();
+  }
+
+  private static List<Object[]> rows(int n) {
+    List<Object[]> rows = new ArrayList<>();
+    for (int i = 0; i < n; ++i) {
+      Object[] row = VALUES[i % VALUES.length].clone();
+      row[0] = row[0] + " " + i;
+      rows.add(row);
+    }
+    return rows;
+  }
+
+  public static final void testWriteRow() throws Exception {
+    List<Object[]> rows = rows(VALUES.length);
+    StringWriter buf = new StringWriter();
+    try (HTMLEscapingWriter w = new HTMLEscapingWriter(buf)) {
+      w.writeSafe("<table>");
+      RowRenderer r = new RowRenderer(w, ROW_TEMPLATE);
+      assertEquals(8, r.getValueCount());
+      for (Object[] row : rows) {
+        r.writeRow(w, row);
+      }
+      w.writeSafe("</table>");
+    }
+    assertEquals(writePiecemeal("<table>", rows), buf.toString());
+  }
+
+  public static final void testWriteRows() throws Exception {
+    List<Object[]> rows = rows(1000);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      StringWriter buf = new StringWriter();
+      try (HTMLEscapingWriter w = new HTMLEscapingWriter(buf)) {
+        w.writeSafe("<table>");
+        new RowRenderer(w, ROW_TEMPLATE).writeRows(w, rows, executor, 64);
+        w.writeSafe("</table>");
+      }
+      assertEquals(writePiecemeal("<table>", rows), buf.toString());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  public static final void testRowMustReturnToStartContext() throws Exception {
+    HTMLEscapingWriter w = new HTMLEscapingWriter(new StringWriter());
+    try {
+      new RowRenderer(w, "<li title=\"", "");
+      fail("row ends inside an attribute");
+    } catch (TemplateException ex) {
+      assertTrue(ex.getMessage(), ex.getMessage().startsWith("Row template"));
+    }
+  }
+
+  public static final void testMaxRowLength() throws Exception {
+    String[] template = {
+      "<p title=", "> <b class=\"", "\">", "</b><a href=\"/s?q=",
+      "\" onclick=\"f('", "')\">", "</a><script>var re = /",
+      "/;</script><textarea>", "</textarea></p>\n",
+    };
+    char[] chars = {
+      'a', '0', ' ', '<', '>', '&', '"', '\'', '\\', '(', '/', '\n', '\0',
+      '\u00e9', '\u2028', '\ud83d', '\ude00',
+    };
+    Random rnd = new Random(0xb0d);
+    StringWriter buf = new StringWriter();
+    try (HTMLEscapingWriter w = new HTMLEscapingWriter(buf)) {
+      RowRenderer r = new RowRenderer(w, template);
+      for (int run = 0; run < 200; ++run) {
+        Object[] values = new Object[r.getValueCount()];
+        for (int i = 0; i < values.length; ++i) {
+          StringBuilder sb = new StringBuilder();
+          for (int j = rnd.nextInt(12); --j >= 0;) {
+            sb.append(chars[rnd.nextInt(chars.length)]);
+          }
+          values[i] = sb.toString();
+        }
+        int before = buf.getBuffer().length();
+        r.writeRow(w, values);
+        w.flush();
+        long written = buf.getBuffer().length() - before;
+        long max = r.maxRowLength(values);
+        assertTrue(written + " > " + max, 0 <= max && written <= max);
+      }
+      assertEquals(-1, r.maxRowLength("", "", 42, "", "", "", "", ""));
+    }
+    // The bound is -1 for values that are filtered as a whole.
+    try (HTMLEscapingWriter w = new HTMLEscapingWriter(new StringWriter())) {
+      RowRenderer r = new RowRenderer(w, ROW_TEMPLATE);
+      assertEquals(-1, r.maxRowLength(VALUES[0]));
+    }
+  }
+}
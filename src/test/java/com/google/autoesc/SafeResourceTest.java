@@ -0,0 +1,122 @@
+// Copyright (C) 2026 Google Inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.autoesc;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import junit.framework.TestCase;
+
+@SuppressWarnings("javadoc")
+public final class SafeResourceTest extends TestCase {
+
+  private Path file;
+
+  @Override
+  protected void setUp() throws IOException {
+    file = Files.createTempFile("SafeResourceTest", ".html");
+  }
+
+  @Override
+  protected void tearDown() throws IOException {
+    Files.deleteIfExists(file);
+  }
+
+  private void setContent(String content, long mtime) throws IOException {
+    Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    Files.setLastModifiedTime(file, FileTime.fromMillis(mtime));
+  }
+
+  private static String expected(
+      String prefix, String content, Object value, String suffix)
+      throws IOException {
+    StringWriter buf = new StringWriter();
+    try (HTMLEscapingWriter w = new HTMLEscapingWriter(buf)) {
+      w.writeSafe(prefix);
+      w.writeSafe(content);
+      w.write(value);
+      w.writeSafe(suffix);
+    }
+    return buf.toString();
+  }
+
+  private static final String CONTENT =
+      "<b title=\u00e9t\u00e9>O'Reilly</b> <a href=\"/foo?q=";
+
+  public final void testWriteTo() throws IOException {
+    setContent(CONTENT, 1000L);
+    SafeResource res = new SafeResource(file);
+    String[][] prefixesAndSuffixes = {
+      { "", "\">x</a>" },
+      { "<p>", "\">x</a>" },
+      { "<textarea>", "</textarea>" },
+    };
+    for (String[] prefixAndSuffix : prefixesAndSuffixes) {
+      String prefix = prefixAndSuffix[0];
+      String suffix = prefixAndSuffix[1];
+      for (int i = 0; i < 2; ++i) {  // Once to fill the cache, once from it.
+        StringWriter buf = new StringWriter();
+        try (HTMLEscapingWriter w = new HTMLEscapingWriter(buf)) {
+          w.writeSafe(prefix);
+          res.writeTo(w);
+          w.write("a b&c");
+          w.writeSafe(suffix);
+        }
+        assertEquals(
+            prefix, expected(prefix, CONTENT, "a b&c", suffix),
+            buf.toString());
+      }
+    }
+  }
+
+  public final void testWriteToChannel() throws IOException {
+    setContent(CONTENT, 1000L);
+    SafeResource res = new SafeResource(file);
+    for (int i = 0; i < 2; ++i) {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      WritableByteChannel ch = Channels.newChannel(bytes);
+      try (HTMLEscapingWriter w = new HTMLEscapingWriter(
+               new OutputStreamWriter(bytes, StandardCharsets.UTF_8))) {
+        w.writeSafe("<p>");
+        res.writeTo(w, ch);
+        w.write("a b&c");
+        w.writeSafe("\">x</a>");
+      }
+      assertEquals(
+          expected("<p>", CONTENT, "a b&c", "\">x</a>"),
+          new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+    }
+  }
+
+  public final void testReloadOnModification() throws IOException {
+    setContent("<b>Hello", 1000L);
+    SafeResource res = new SafeResource(file);
+    StringWriter buf = new StringWriter();
+    HTMLEscapingWriter w = new HTMLEscapingWriter(buf);
+    res.writeTo(w);
+    assertEquals("<b>Hello", buf.toString());
+    setContent("<i>Goodbye <a href=", 2000L);
+    res.writeTo(w);
+    w.write("x y");
+    assertEquals("<b>Hello<i>Goodbye <a href=\"x%20y", buf.toString());
+  }
+}
@@ -0,0 +1,99 @@
+// Copyright (C) 2026 Google Inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.autoesc;
+
+import java.io.StringWriter;
+
+import junit.framework.TestCase;
+
+@SuppressWarnings("javadoc")
+public final class SchemeAllowlistTest extends TestCase {
+
+  private static void assertAllowed(
+      boolean allowed, SchemeAllowlist schemes, String url) {
+    String s2 = "javascript:" + url + ":";
+    int n = url.length();
+    assertEquals(url, allowed, schemes.isAllowed(url, 0, n));
+    assertEquals(url, allowed, schemes.isAllowed(s2, 11, 11 + n));
+    assertEquals(url, allowed, schemes.isAllowed(url.toCharArray(), 0, n));
+    assertEquals(
+        url, allowed, schemes.isAllowed(s2.toCharArray(), 11, 11 + n));
+    assertEquals(
+        url, allowed, schemes.isAllowed(new StringBuilder(s2), 11, 11 + n));
+  }
+
+  public static final void testCustomSchemes() {
+    SchemeAllowlist schemes = SchemeAllowlist.of(
+        "https", "TEL", "sms", "com.example.app");
+    assertAllowed(true, schemes, "https://example.com/");
+    assertAllowed(true, schemes, "HTTPS://example.com/");
+    assertAllowed(true, schemes, "tel:+1-555-0100");
+    assertAllowed(true, schemes, "Tel:+1-555-0100");
+    assertAllowed(true, schemes, "sms:+15550100?body=hi");
+    assertAllowed(true, schemes, "com.example.app://open?id=1");
+    assertAllowed(true, schemes, "/path:with-colon");
+    assertAllowed(true, schemes, "path");
+    assertAllowed(false, schemes, "http://example.com/");
+    assertAllowed(false, schemes, "mailto:foo@example.com");
+    assertAllowed(false, schemes, "javascript:alert(1337)");
+    assertAllowed(false, schemes, "te:");
+    assertAllowed(false, schemes, "tell:");
+    assertAllowed(false, schemes, "com.example:");
+    assertAllowed(false, schemes, ":");
+  }
+
+  public static final void testDefault() {
+    assertAllowed(true, SchemeAllowlist.DEFAULT, "http://example.com/");
+    assertAllowed(true, SchemeAllowlist.DEFAULT, "https://example.com/");
+    assertAllowed(true, SchemeAllowlist.DEFAULT, "mailto:foo@example.com");
+    assertAllowed(false, SchemeAllowlist.DEFAULT, "tel:+1-555-0100");
+    assertEquals(
+        SchemeAllowlist.of("MailTo", "http", "https", "http"),
+        SchemeAllowlist.DEFAULT);
+    assertEquals("[http, https, mailto]", SchemeAllowlist.DEFAULT.toString());
+  }
+
+  public static final void testBadSchemes() {
+    for (String bad : new String[] { "", "1tel", "-x", "tel:", "a b" }) {
+      try {
+        SchemeAllowlist.of(bad);
+        fail(bad);
+      } catch (@SuppressWarnings("unused") IllegalArgumentException ex) {
+        // pass
+      }
+    }
+  }
+
+  public static final void testWriter() throws Exception {
+    StringWriter buf = new StringWriter();
+    try (HTMLEscapingWriter w = new HTMLEscapingWriter(buf)) {
+      w.setSchemeAllowlist(SchemeAllowlist.of("https", "tel"));
+      w.writeSafe("<a href=\"");
+      w.write("tel:+1-555-0100");
+      w.writeSafe("\">");
+      w.writeSafe("<a href=\"");
+      w.write(new StringBuilder("http://example.com/"));
+      w.writeSafe("\">");
+      w.writeSafe("<a href=\"");
+      w.write("Https://example.com/".toCharArray());
+      w.writeSafe("\">");
+    }
+    assertEquals(
+        "<a href=\"tel:&#43;1-555-0100\">"
+        + "<a href=\"#ZautoescZ\">"
+        + "<a href=\"Https://example.com/\">",
+        buf.toString());
+  }
+}
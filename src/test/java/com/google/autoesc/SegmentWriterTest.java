@@ -0,0 +1,129 @@
+// Copyright (C) 2026 Google Inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.autoesc;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import com.google.common.base.Strings;
+
+import junit.framework.TestCase;
+
+@SuppressWarnings("javadoc")
+public final class SegmentWriterTest extends TestCase {
+
+  /** Takes at most 7 bytes per write to exercise partial writes. */
+  static final class SlowChannel implements GatheringByteChannel {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    int nWrites;
+
+    @Override
+    public int write(ByteBuffer src) {
+      int n = Math.min(7, src.remaining());
+      for (int i = 0; i < n; ++i) { bytes.write(src.get()); }
+      return n;
+    }
+
+    @Override
+    public long write(ByteBuffer[] srcs, int offset, int length) {
+      ++nWrites;
+      long total = 0;
+      for (int i = offset; i < offset + length && total < 7; ++i) {
+        total += write(srcs[i]);
+      }
+      return total;
+    }
+
+    @Override
+    public long write(ByteBuffer[] srcs) {
+      return write(srcs, 0, srcs.length);
+    }
+
+    @Override
+    public boolean isOpen() { return true; }
+
+    @Override
+    public void close() { /* no-op */ }
+  }
+
+  static final String NAV = "<nav>"
+      + Strings.repeat("<a href=\"/s\">Section \u00a7</a>", 10) + "</nav>";
+
+  static void render(HTMLEscapingWriter w, FragmentCache cache)
+      throws Exception {
+    w.writeSafe("<html><body>");
+    w.writeSafe(NAV);
+    for (int i = 0; i < 300; ++i) {
+      w.writeSafe("<p title=\"");
+      w.write("Item \ud83d\ude00 <" + i + ">");
+      w.writeSafe("\">");
+      cache.writeTo(w, i % 3, new FragmentCacheTest.Card("Card " + i % 3));
+      w.writeSafe("</p>");
+    }
+    w.writeSafe(NAV);
+    w.writeSafe("</body></html>");
+  }
+
+  public static final void testAssemblesPage() throws Exception {
+    FragmentCache cache = new FragmentCache(1 << 20);
+    StringWriter golden = new StringWriter();
+    try (HTMLEscapingWriter w = new MemoizingHTMLEscapingWriter(golden)) {
+      render(w, cache);
+    }
+
+    SegmentWriter segments = new SegmentWriter();
+    try (HTMLEscapingWriter w = new MemoizingHTMLEscapingWriter(segments)) {
+      render(w, cache);
+    }
+    assertEquals(golden.toString(), segments.toString());
+    assertEquals(golden.toString().length(), segments.length());
+    // Both navs were referenced.
+    assertTrue(segments.getReferencedCharCount() >= 2 * NAV.length());
+    assertEquals(
+        segments.length(),
+        segments.getCopiedCharCount() + segments.getReferencedCharCount());
+
+    StringWriter out = new StringWriter();
+    segments.writeTo(out);
+    assertEquals(golden.toString(), out.toString());
+
+    for (int run = 0; run < 2; ++run) {
+      SlowChannel channel = new SlowChannel();
+      segments.writeTo(channel);
+      assertEquals(
+          Arrays.toString(golden.toString().getBytes(StandardCharsets.UTF_8)),
+          Arrays.toString(channel.bytes.toByteArray()));
+    }
+  }
+
+  public static final void testPairSpanningBlocks() throws Exception {
+    for (int pad = 4090; pad < 4100; ++pad) {
+      String s = Strings.repeat("x", pad) + "\ud83d\ude00\ud83d!\ude00";
+      SegmentWriter w = new SegmentWriter();
+      w.write(s.substring(0, pad + 1));
+      w.write(s.substring(pad + 1).toCharArray());
+      SlowChannel channel = new SlowChannel();
+      w.writeTo(channel);
+      assertEquals(
+          Arrays.toString(s.getBytes(StandardCharsets.UTF_8)),
+          Arrays.toString(channel.bytes.toByteArray()));
+      assertEquals(s, w.toString());
+    }
+  }
+}
@@ -0,0 +1,203 @@
+// Copyright (C) 2026 Google Inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.autoesc;
+
+import java.io.StringWriter;
+import java.util.Arrays;
+import junit.framework.TestCase;
+
+@SuppressWarnings("javadoc")
+public final class StreamHoleTest extends TestCase {
+
+  /** Writes items into a stream hole between before and after. */
+  private static String writeStream(
+      boolean xml, String before, String after, Object... items)
+      throws Exception {
+    StringWriter buf = new StringWriter();
+    try (HTMLEscapingWriter w = xml
+         ? HTMLEscapingWriter.forXML(buf) : new HTMLEscapingWriter(buf)) {
+      w.writeSafe(before);
+      StreamHole h = w.deferStream();
+      w.writeSafe(after);
+      for (Object item : items) {
+        h.append(item);
+      }
+      h.end();
+    }
+    return buf.toString();
+  }
+
+  private static String writeValue(
+      boolean xml, String before, String after, Object value)
+      throws Exception {
+    StringWriter buf = new StringWriter();
+    try (HTMLEscapingWriter w = xml
+         ? HTMLEscapingWriter.forXML(buf) : new HTMLEscapingWriter(buf)) {
+      w.writeSafe(before);
+      w.write(value);
+      w.writeSafe(after);
+    }
+    return buf.toString();
+  }
+
+  public static final void testItemsStreamAsTheyArrive() throws Exception {
+    StringWriter buf = new StringWriter();
+    HTMLEscapingWriter w = new HTMLEscapingWriter(buf);
+    w.writeSafe("<p>");
+    StreamHole h = w.deferStream();
+    w.writeSafe("</p>");
+    h.append("<a");
+    assertEquals("<p>&lt;a", buf.toString());
+    h.append(" & b>");
+    assertEquals("<p>&lt;a &amp; b&gt;", buf.toString());
+    assertFalse(h.isEnded());
+    h.end();
+    assertTrue(h.isEnded());
+    assertEquals("<p>&lt;a &amp; b&gt;</p>", buf.toString());
+    w.close();
+  }
+
+  public static final void testItemsConcatenate() throws Exception {
+    String[][] tests = {
+      { "<p>", "</p>" },
+      { "<p title='", "'>" },
+      { "<script>alert('", "')</script>" },
+      { "<a href=\"/search?q=", "\">" },
+      { "<a href=\"", "\">" },
+      { "<a onclick=\"alert(&quot;", "&quot;)\">" },
+      { "<p style=\"color: ", "\">" },
+      { "<textarea>", "</textarea>" },
+    };
+    for (String[] test : tests) {
+      for (Object[] items : new Object[][] {
+             { "java", "script:alert(1)" }, { "a b", "&", "'\"<>" },
+             { "", "red", "" }, {}, { "expr", "ession(x)" },
+           }) {
+        StringBuilder whole = new StringBuilder();
+        for (Object item : items) { whole.append(item); }
+        assertEquals(
+            test[0] + Arrays.toString(items),
+            writeValue(false, test[0], test[1], whole.toString()),
+            writeStream(false, test[0], test[1], items));
+      }
+    }
+  }
+
+  public static final void testJSValueItemsFormArray() throws Exception {
+    Object[] items = { 1, "a'b", null, true, Arrays.asList("c", 2) };
+    for (String[] test : new String[][] {
+           { "<script>var x = ", ";</script>" },
+           { "<a onclick=\"f(", ")\">" },
+         }) {
+      assertEquals(
+          writeValue(false, test[0], test[1], Arrays.asList(items)),
+          writeStream(false, test[0], test[1], items));
+      assertEquals(
+          test[0] + "[]" + test[1],
+          writeStream(false, test[0], test[1]));
+    }
+  }
+
+  public static final void testCDATAEndSplitAcrossItems() throws Exception {
+    String before = "<feed><![CDATA[";
+    String after = "]]></feed>";
+    assertEquals(
+        writeValue(true, before, after, "a]]>b"),
+        writeStream(true, before, after, "a]", "]", ">b"));
+    assertEquals(
+        writeValue(true, before, after, "a]]]>b"),
+        writeStream(true, before, after, "a]]", "]", ">", "b"));
+  }
+
+  public static final void testNullAndSafeContentItems() throws Exception {
+    Object safeURL = new SafeContentString(
+        "javascript:void(0)", ContentType.URL);
+    Object safeCSS = new SafeContentString("expression(x)", ContentType.CSS);
+    Object[][] tests = {
+      // xml, before, after, value
+      { true, "<feed><![CDATA[", "]]></feed>", null },
+      { true, "<feed><![CDATA[", "]]></feed>", "a]]>b".toCharArray() },
+      { false, "<a href=\"", "\">", null },
+      { false, "<a href=\"", "\">", safeURL },
+      { false, "<p style=\"color: ", "\">", null },
+      { false, "<p style=\"color: ", "\">", safeCSS },
+    };
+    for (Object[] test : tests) {
+      boolean xml = (Boolean) test[0];
+      String before = (String) test[1];
+      String after = (String) test[2];
+      Object value = test[3];
+      String want = writeValue(xml, before, after, value);
+      assertEquals(
+          before + value, want, writeStream(xml, before, after, value));
+      assertEquals(
+          before + value, want,
+          writeStream(xml, before, after, null, value, null));
+    }
+    // Trust is not extended to the concatenation.
+    assertEquals(
+        writeValue(false, "<a href=\"", "\">", "javascript:void(0)/x"),
+        writeStream(false, "<a href=\"", "\">", safeURL, "/x"));
+  }
+
+  public static final void testURLEscapesSplitAcrossItems() throws Exception {
+    Object[][] tests = {
+      { "%2", "0" },
+      { "a%", "20b%", "2", "0" },
+      { "%", "", "2", "0%" },
+      { "\ud83d", "\ude00", "%e2%82", "%ac" },
+    };
+    for (String[] test : new String[][] {
+           { "<a href=\"/x/", "\">" },
+           { "<a href=\"/x?q=", "\">" },
+         }) {
+      for (Object[] items : tests) {
+        StringBuilder whole = new StringBuilder();
+        for (Object item : items) { whole.append(item); }
+        assertEquals(
+            test[0] + Arrays.toString(items),
+            writeValue(false, test[0], test[1], whole.toString()),
+            writeStream(false, test[0], test[1], items));
+      }
+    }
+  }
+
+  public static final void testItemsBehindHole() throws Exception {
+    StringWriter buf = new StringWriter();
+    HTMLEscapingWriter w = new HTMLEscapingWriter(buf);
+    w.writeSafe("<h1>");
+    Hole title = w.defer();
+    w.writeSafe("</h1><script>var items = ");
+    StreamHole items = w.deferStream();
+    w.writeSafe(";</script>");
+    w.close();
+    items.append("x");
+    items.append(2);
+    assertEquals("<h1>", buf.toString());
+    title.fill("Items");
+    assertEquals(
+        "<h1>Items</h1><script>var items = ['x',2", buf.toString());
+    items.end();
+    assertEquals(
+        "<h1>Items</h1><script>var items = ['x',2];</script>",
+        buf.toString());
+    try {
+      items.append(3);
+      fail("Appended after end");
+    } catch (@SuppressWarnings("unused") IllegalStateException ex) {
+      // pass
+    }
+  }
+}
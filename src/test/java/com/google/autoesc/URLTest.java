@@ -133,6 +133,38 @@ public final class URLTest extends TestCase {
     }
   }
 
+  public static final void testLongEscapedRuns() throws Exception {
+    // Runs of chars that need encoding are encoded into a fixed size buffer
+    // so check runs longer than it, adjacent to normalized escapes.
+    StringBuilder input = new StringBuilder();
+    StringBuilder escaped = new StringBuilder();
+    StringBuilder normalized = new StringBuilder();
+    for (int i = 0; i < 100; ++i) {
+      input.append("\u00e9 \ud834\udd1e");
+      escaped.append("%c3%a9%20%f0%9d%84%9e");
+    }
+    normalized.append(escaped);
+    input.append("%7Cx");
+    escaped.append("%257Cx");
+    normalized.append("%7Cx");
+    {
+      StringWriter buf = new StringWriter();
+      URL.escapeOnto(false, input.toString(), buf);
+      assertEquals(escaped.toString(), buf.toString());
+    }
+    {
+      StringWriter buf = new StringWriter();
+      URL.escapeOnto(true, input.toString(), buf);
+      assertEquals(normalized.toString(), buf.toString());
+    }
+    {
+      StringWriter buf = new StringWriter();
+      char[] chars = ("x" + input + "y").toCharArray();
+      URL.escapeOnto(chars, 1, chars.length - 1, false, buf);
+      assertEquals(escaped.toString(), buf.toString());
+    }
+  }
+
   public static final void testURLPrefixAllowed() {
     String[] ok = {
       "http://example.com/",
@@ -0,0 +1,108 @@
+// Copyright (C) 2026 Google Inc.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.autoesc;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.CRC32;
+
+import junit.framework.TestCase;
+
+@SuppressWarnings("javadoc")
+public final class Utf8ChannelWriterTest extends TestCase {
+
+  private static final char[] SAMPLE_CHARS = {
+    'a', '<', '\n', '\u00e9', '\u0800', '\u20ac', '\ufffd',
+    '\ud834', '\udd1e',  // A surrogate pair when adjacent.
+  };
+
+  public static final void testEncodesLikeStringGetBytes() throws Exception {
+    Random rnd = new Random(0x5eed);
+    for (int run = 0; run < 500; ++run) {
+      char[] chars = new char[rnd.nextInt(64)];
+      for (int i = 0; i < chars.length; ++i) {
+        chars[i] = SAMPLE_CHARS[rnd.nextInt(SAMPLE_CHARS.length)];
+      }
+      String s = new String(chars);
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      int bufferSize = 4 + rnd.nextInt(16);
+      try (Utf8ChannelWriter w = new Utf8ChannelWriter(
+               Channels.newChannel(bytes), bufferSize)) {
+        // Write in chunks via each of the write methods.
+        for (int off = 0, end; off < chars.length; off = end) {
+          end = off + 1 + rnd.nextInt(chars.length - off);
+          switch (rnd.nextInt(3)) {
+            case 0: w.write(chars, off, end - off); break;
+            case 1: w.write(s, off, end - off); break;
+            default:
+              for (int i = off; i < end; ++i) { w.write(chars[i]); }
+              break;
+          }
+          if (rnd.nextInt(4) == 0) { w.flush(); }
+        }
+      }
+      assertEquals(
+          s, Arrays.toString(s.getBytes(StandardCharsets.UTF_8)),
+          Arrays.toString(bytes.toByteArray()));
+    }
+  }
+
+  public static final void testXMLDocument() throws Exception {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (HTMLEscapingWriter w = HTMLEscapingWriter.forXML(
+             new Utf8ChannelWriter(Channels.newChannel(bytes)))) {
+      w.writeSafe("<urlset><url><loc>");
+      w.write("http://example.com/caf\u00e9?a=1&b=<2>");
+      w.writeSafe("</loc></url></urlset>");
+    }
+    assertEquals(
+        "<urlset><url><loc>http://example.com/caf\u00e9?a=1&amp;b=&lt;2&gt;"
+        + "</loc></url></urlset>",
+        new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+  }
+
+  public static final void testChecksumOfBytesWritten() throws Exception {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    Utf8ChannelWriter out = new Utf8ChannelWriter(
+        Channels.newChannel(bytes), 16, new CRC32());
+    CRC32 expected = new CRC32();
+    try (HTMLEscapingWriter w = new HTMLEscapingWriter(out)) {
+      w.writeSafe("<p title=\"");
+      w.write("caf\u00e9 & <cr\u00eame>");
+      w.writeSafe("\">");
+      w.flush();
+      // Covers the bytes written so far.
+      expected.update(bytes.toByteArray());
+      assertEquals(expected.getValue(), out.getChecksumValue());
+      assertEquals(bytes.size(), out.getByteCount());
+      for (int i = 0; i < 100; ++i) {
+        w.write(i);
+        w.writeSafe("<br>");
+      }
+      w.writeSafe("</p>");
+    }
+    expected.reset();
+    expected.update(bytes.toByteArray());
+    assertEquals(expected.getValue(), out.getChecksumValue());
+    assertEquals(bytes.size(), out.getByteCount());
+    assertEquals(
+        "\"" + Long.toHexString(expected.getValue()) + "-"
+        + Long.toHexString(bytes.size()) + "\"",
+        out.getETag());
+  }
+}
@@ -15,7 +15,9 @@
 package com.google.autoesc;
 
 import java.io.IOException;
+import java.io.StringReader;
 import java.io.StringWriter;
+import java.util.Random;
 
 import junit.framework.TestCase;
 
@@ -100,6 +102,19 @@ public final class XMLTest extends TestCase {
       XML.escapeCDATAOnto(" " + input + " ", 1, input.length() + 1, sw);
       assertEquals(input, golden, sw.toString());
     }
+    // Splitting the input into chunks should not change the output.
+    for (int i = 0; i <= input.length(); ++i) {
+      for (int j = i; j <= input.length(); ++j) {
+        StringWriter sw = new StringWriter();
+        int state = XML.CDATA_START;
+        state = XML.escapeCDATAChunkOnto(input, 0, i, state, sw);
+        state = XML.escapeCDATAChunkOnto(input, i, j, state, sw);
+        state = XML.escapeCDATAChunkOnto(
+            input.toCharArray(), j, input.length(), state, sw);
+        XML.endCDATAOnto(state, sw);
+        assertEquals(input + " @ " + i + ", " + j, golden, sw.toString());
+      }
+    }
   }
 
   public static final void testEscapeCDATAOnto() throws Exception {
@@ -116,4 +131,55 @@ public final class XMLTest extends TestCase {
     assertCDATAEscaped("]]><![CDATA[]>", "]>");
     assertCDATAEscaped("]]]]><![CDATA[>", "]\u0000]\u0000>");
   }
+
+  public static final void testEscapeCDATAChunksRandomly() throws Exception {
+    Random rnd = new Random(0x5eed);
+    char[] alphabet = { ']', ']', '>', 'a', '\0' };
+    for (int run = 0; run < 2000; ++run) {
+      char[] input = new char[rnd.nextInt(12)];
+      for (int i = 0; i < input.length; ++i) {
+        input[i] = alphabet[rnd.nextInt(alphabet.length)];
+      }
+      StringWriter sw = new StringWriter();
+      int state = XML.CDATA_START;
+      for (int off = 0, end; off < input.length; off = end) {
+        end = off + 1 + rnd.nextInt(input.length - off);
+        state = XML.escapeCDATAChunkOnto(input, off, end, state, sw);
+      }
+      XML.endCDATAOnto(state, sw);
+      String got = sw.toString();
+      String plain = new String(input).replace("\0", "");
+      // Parse the CDATA sections as an XML parser would.
+      String section = "<![CDATA[" + got + "]]>";
+      StringBuilder parsed = new StringBuilder();
+      for (int i = 0; i < section.length();) {
+        assertTrue(got, section.startsWith("<![CDATA[", i));
+        int sectionEnd = section.indexOf("]]>", i);
+        parsed.append(section, i + 9, sectionEnd);
+        i = sectionEnd + 3;
+      }
+      assertEquals(got, plain, parsed.toString());
+    }
+  }
+
+  public static final void testWriteCDATAReader() throws Exception {
+    // Put a "]]>" across each of the first few chunk boundaries.
+    StringBuilder sb = new StringBuilder();
+    for (int i = 1; i <= 3; ++i) {
+      while (sb.length() < i * 4096 - 1 - i % 2) { sb.append('x'); }
+      sb.append("]]>");
+    }
+    String value = sb.toString();
+    String want = value.replace("]]>", "]]]]><![CDATA[>");
+    String prefix = "<?xml version=\"1.0\"> <![CDATA[";
+    StringWriter got = new StringWriter();
+    try (HTMLEscapingWriter w = new HTMLEscapingWriter(got)) {
+      w.writeSafe(prefix);
+      w.write(new StringReader(value));
+      w.writeSafe("]]>");
+    } catch (@SuppressWarnings("unused") BadEndContextException ex) {
+      // XML does not end in the text context.
+    }
+    assertEquals(prefix + want + "]]>", got.toString());
+  }
 }